@@ -176,6 +176,16 @@ public enum API_Consonne {
     ;
 
 
+    /**
+     * Bits utilisés dans {@code caracteristiques} pour chaque caractéristique sonore.
+     */
+    public static final int VOCALIQUE = 1;
+    public static final int NASAL = 1 << 1;
+    public static final int VOISE = 1 << 2;
+    public static final int CONTINU = 1 << 3;
+    public static final int COMPACT = 1 << 4;
+    public static final int AIGU = 1 << 5;
+
     /**
      * Contient toutes les constantes de la classe dans l'ordre des déclarations.
      */
@@ -196,6 +206,33 @@ public enum API_Consonne {
      */
     private static final Pattern PATRON_CHOIX_TOUS = Pattern.compile( "[" + S_TOUS + "]" );
 
+    /**
+     * Associe chaque point de code à la constante qu'il représente.  L'indice du tableau est le point de code.
+     */
+    private static final API_Consonne [] PAR_CODE_POINT = construireTable();
+
+
+
+    /**
+     * Construit la table d'association entre les points de code et les constantes.
+     *
+     * @return un tableau assez grand pour contenir le plus grand point de code.
+     * @exception IllegalStateException si deux constantes utilisent le même point de code.
+     */
+    private static API_Consonne [] construireTable() {
+        int maximum = Arrays.stream( TOUS ).mapToInt( API_Consonne::getCodePoint ).max().orElse( -1 );
+        API_Consonne [] resultat = new API_Consonne[ maximum + 1 ];
+
+        for( API_Consonne consonne : TOUS ) {
+            if( null != resultat[ consonne.codePoint ] ) {
+                throw new IllegalStateException( "Le point de code " + Integer.toHexString( consonne.codePoint )
+                        + " est utilisé par " + resultat[ consonne.codePoint ].name() + " et " + consonne.name() );
+            }
+            resultat[ consonne.codePoint ] = consonne;
+        }
+
+        return resultat;
+    }
 
 
     /**
@@ -224,6 +261,12 @@ public enum API_Consonne {
         this.cavite = cavite;
         this.ecoulement = ecoulement;
         this.flux = flux;
+        this.caracteristiques = ( modeArticulation.estVocalique() ? VOCALIQUE : 0 )
+                | ( cavite.estNasal() ? NASAL : 0 )
+                | ( phonation.estVoise() ? VOISE : 0 )
+                | ( modeArticulation.estContinu() ? CONTINU : 0 )
+                | ( pointArticulationConsonne.estCompact() ? COMPACT : 0 )
+                | ( pointArticulationConsonne.estAigu() ? AIGU : 0 );
     }
 
 
@@ -235,6 +278,11 @@ public enum API_Consonne {
     private Ecoulement ecoulement;
     private Flux flux;
 
+    /**
+     * Les caractéristiques sonores de la consonne, une par bit, calculées à la construction.
+     */
+    private int caracteristiques;
+
 
     /**
      * getter pour le codePoint.
@@ -245,6 +293,17 @@ public enum API_Consonne {
     }
 
 
+    /**
+     * getter pour les caractéristiques sonores.
+     *
+     * @return les caractéristiques sonores de la consonne, combinées par les bits {@code VOCALIQUE}, {@code NASAL},
+     * {@code VOISE}, {@code CONTINU}, {@code COMPACT} et {@code AIGU}.
+     */
+    public int getCaracteristiques() {
+        return caracteristiques;
+    }
+
+
     /**
      * Indique si la consonne a la caractéristique sonore 'vocalique'.
      *
@@ -325,7 +384,29 @@ public enum API_Consonne {
     public static API_Consonne lire( Scanner scanner ) {
         String suivant = scanner.next( PATRON_CHOIX_TOUS );
 
-        return TOUS[ S_TOUS.indexOf( suivant ) ];
+        return fromCodePoint( suivant.codePointAt( 0 ) );
+    }
+
+
+    /**
+     * Retourne la consonne représentée par un point de code.
+     *
+     * @param codePoint le point de code à chercher.
+     * @return la constante représentée par le symbole, ou {@code null} si ce n'est pas une consonne.
+     */
+    public static API_Consonne fromCodePoint( int codePoint ) {
+        return codePoint >= 0 && codePoint < PAR_CODE_POINT.length ? PAR_CODE_POINT[ codePoint ] : null;
+    }
+
+
+    /**
+     * Indique si un point de code est le symbole d'une consonne.
+     *
+     * @param codePoint le point de code à vérifier.
+     * @return {@code true} si le point de code représente une consonne.
+     */
+    public static boolean estSymbole( int codePoint ) {
+        return null != fromCodePoint( codePoint );
     }
 
 
@@ -426,15 +507,13 @@ public enum API_Consonne {
 
     /**
      * Calcule la distance entre deux phonèmes de consonne.
+     *
+     * C'est le nombre de caractéristiques sonores qui diffèrent, soit la somme des six {@code calculerDistance}
+     * précédents.
      * @param consonne le phonème de consonne à comparer.
      * @return la distance entre les deux phonèmes de consonne.
      */
     public int calculerDistanceApiConsonne (API_Consonne consonne) {
-        return calculerDistanceVocalique(consonne) +
-                calculerDistanceNasal(consonne) +
-                calculerDistanceVoise(consonne) +
-                calculerDistanceContinu(consonne) +
-                calculerDistanceCompact(consonne) +
-                calculerDistanceAigu(consonne);
+        return Integer.bitCount( caracteristiques ^ consonne.caracteristiques );
     }
 }
@@ -18,7 +18,7 @@ public enum API_Voyelle {
     API_304(0x0061, Ouverture.OUVERTES, PointArticulationVoyelle.ANTERIEURES, Rondeur.NON_ARRONDI),
     API_305(0x0251, Ouverture.OUVERTES, PointArticulationVoyelle.POSTERIEURES, Rondeur.NON_ARRONDI),
     API_306(0x0254, Ouverture.MI_OUVERTES, PointArticulationVoyelle.POSTERIEURES, Rondeur.ARRONDI),
-    API_307(0x0264, Ouverture.MI_FERMEES, PointArticulationVoyelle.POSTERIEURES, Rondeur.ARRONDI),
+    API_307(0x006F, Ouverture.MI_FERMEES, PointArticulationVoyelle.POSTERIEURES, Rondeur.ARRONDI),
     API_308(0x0075, Ouverture.FERMEES, PointArticulationVoyelle.POSTERIEURES, Rondeur.ARRONDI),
     API_309(0x0079, Ouverture.FERMEES, PointArticulationVoyelle.ANTERIEURES, Rondeur.ARRONDI),
     API_310(0x00F8, Ouverture.MI_FERMEES, PointArticulationVoyelle.ANTERIEURES, Rondeur.ARRONDI),
@@ -45,6 +45,14 @@ public enum API_Voyelle {
     ;
 
 
+    /**
+     * Bits utilisés dans {@code caracteristiques} pour chaque caractéristique sonore.
+     */
+    public static final int ARRIERE = 1;
+    public static final int HAUT = 1 << 1;
+    public static final int ARRONDI = 1 << 2;
+    public static final int OUVERTE = 1 << 3;
+
     /**
      * Contient toutes les constantes de la classe dans l'ordre des déclarations.
      */
@@ -67,11 +75,44 @@ public enum API_Voyelle {
      */
     private static final Pattern PATRON_CHOIX_TOUS = Pattern.compile("[" + S_TOUS + "]");
 
+
+    /**
+     * Associe chaque point de code à la constante qu'il représente.  L'indice du tableau est le point de code.
+     */
+    private static final API_Voyelle[] PAR_CODE_POINT = construireTable();
+
     private int codePoint;
     private Ouverture ouverture;
     private PointArticulationVoyelle pointArticulationVoyelle;
     private Rondeur rondeur;
 
+    /**
+     * Les caractéristiques sonores de la voyelle, une par bit, calculées à la construction.
+     */
+    private int caracteristiques;
+
+
+    /**
+     * Construit la table d'association entre les points de code et les constantes.
+     *
+     * @return un tableau assez grand pour contenir le plus grand point de code.
+     * @throws IllegalStateException si deux constantes utilisent le même point de code.
+     */
+    private static API_Voyelle[] construireTable() {
+        int maximum = Arrays.stream(TOUS).mapToInt(API_Voyelle::getCodePoint).max().orElse(-1);
+        API_Voyelle[] resultat = new API_Voyelle[maximum + 1];
+
+        for (API_Voyelle voyelle : TOUS) {
+            if (null != resultat[voyelle.codePoint]) {
+                throw new IllegalStateException("Le point de code " + Integer.toHexString(voyelle.codePoint)
+                        + " est utilisé par " + resultat[voyelle.codePoint].name() + " et " + voyelle.name());
+            }
+            resultat[voyelle.codePoint] = voyelle;
+        }
+
+        return resultat;
+    }
+
 
     /**
      * Constructeur pour les constantes.
@@ -90,6 +131,10 @@ public enum API_Voyelle {
         this.ouverture = ouverture;
         this.pointArticulationVoyelle = pointArticulationVoyelle;
         this.rondeur = rondeur;
+        this.caracteristiques = (pointArticulationVoyelle.estArriere() ? ARRIERE : 0)
+                | (ouverture.estHaut() ? HAUT : 0)
+                | (rondeur.estArrondi() ? ARRONDI : 0)
+                | (ouverture.estOuverte() ? OUVERTE : 0);
     }
 
 
@@ -103,6 +148,17 @@ public enum API_Voyelle {
     }
 
 
+    /**
+     * getter pour les caractéristiques sonores.
+     *
+     * @return les caractéristiques sonores de la voyelle, combinées par les bits {@code ARRIERE}, {@code HAUT},
+     * {@code ARRONDI} et {@code OUVERTE}.
+     */
+    public int getCaracteristiques() {
+        return caracteristiques;
+    }
+
+
     /**
      * Indique si la voyelle a la caractéristique sonore 'arrière'.
      *
@@ -161,7 +217,29 @@ public enum API_Voyelle {
     public static API_Voyelle lire(Scanner scanner) {
         String suivant = scanner.next(PATRON_CHOIX_TOUS);
 
-        return TOUS[S_TOUS.indexOf(suivant)];
+        return fromCodePoint(suivant.codePointAt(0));
+    }
+
+
+    /**
+     * Retourne la voyelle représentée par un point de code.
+     *
+     * @param codePoint le point de code à chercher.
+     * @return la constante représentée par le symbole, ou {@code null} si ce n'est pas une voyelle.
+     */
+    public static API_Voyelle fromCodePoint(int codePoint) {
+        return codePoint >= 0 && codePoint < PAR_CODE_POINT.length ? PAR_CODE_POINT[codePoint] : null;
+    }
+
+
+    /**
+     * Indique si un point de code est le symbole d'une voyelle.
+     *
+     * @param codePoint le point de code à vérifier.
+     * @return {@code true} si le point de code représente une voyelle.
+     */
+    public static boolean estSymbole(int codePoint) {
+        return null != fromCodePoint(codePoint);
     }
 
 
@@ -233,13 +311,13 @@ public enum API_Voyelle {
 
     /**
      * Calcule la distance entre deux phonèmes de voyelle.
+     *
+     * C'est le nombre de caractéristiques sonores qui diffèrent, soit la somme des quatre {@code calculerDistance}
+     * précédents.
      * @param voyelle le phonème de voyelle à comparer.
      * @return la distance entre les deux phonèmes de voyelle.
      */
     public int calculerDistanceApiVoyelle (API_Voyelle voyelle) {
-        return calculerDistanceArriere(voyelle) +
-                calculerDistanceHaut(voyelle) +
-                calculerDistanceArrondi(voyelle) +
-                calculerDistanceOuverte(voyelle);
+        return Integer.bitCount(caracteristiques ^ voyelle.caracteristiques);
     }
 }
@@ -0,0 +1,275 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+
+/**
+ * Un arbre BK (Burkhard-Keller) sur un vocabulaire de syllabes, pour la distance
+ * {@code SyllabeFrancais.calculerDistanceSyllabe}.
+ *
+ * Les éléments de l'arbre sont les indices des syllabes dans le vocabulaire.  Chaque enfant d'un noeud est rangé selon
+ * sa distance au noeud.  Puisque la distance respecte l'inégalité du triangle, une recherche à distance au plus
+ * {@code r} d'une requête à distance {@code d} d'un noeud n'a à visiter que les enfants rangés entre {@code d - r}
+ * et {@code d + r}.
+ *
+ * Un élément retiré reste dans l'arbre, marqué absent, pour ne pas avoir à reconstruire ses descendants.  Il peut
+ * être ajouté de nouveau.  Quand la moitié des noeuds sont absents, l'arbre est reconstruit avec les éléments
+ * présents, pour que les recherches ne visitent pas trop de noeuds inutiles.
+ *
+ * @see SyllabeFrancais
+ * @see ReductionAgglomerative
+ */
+public class ArbreBK {
+    /**
+     * Valeur retournée par {@code trouverPlusProche} quand aucun élément n'est trouvé.
+     */
+    public static final int AUCUN = -1;
+
+
+    /**
+     * Un noeud de l'arbre.
+     */
+    private static class Noeud {
+        final int element;
+        Noeud[] enfants = null;
+
+        Noeud( int element ) {
+            this.element = element;
+        }
+    }
+
+
+    /**
+     * Le vocabulaire.  Les éléments de l'arbre sont des indices dans ce tableau.
+     */
+    private final SyllabeFrancais[] syllabes;
+
+    /**
+     * Indique si chaque élément a un noeud dans l'arbre.
+     */
+    private final boolean[] dansArbre;
+
+    /**
+     * Indique si chaque élément est présent, c'est-à-dire dans l'arbre et pas retiré.
+     */
+    private final boolean[] presents;
+
+    /**
+     * La racine de l'arbre, ou {@code null} si l'arbre est vide.
+     */
+    private Noeud racine = null;
+
+    /**
+     * Le nombre d'éléments présents.
+     */
+    private int taille = 0;
+
+    /**
+     * Le nombre de noeuds de l'arbre, présents ou non.
+     */
+    private int nombreDeNoeuds = 0;
+
+
+    /**
+     * Construit un arbre vide sur un vocabulaire.
+     *
+     * @param syllabes le vocabulaire.  Ne doit pas être modifié tant que l'arbre est utilisé.
+     */
+    public ArbreBK( SyllabeFrancais[] syllabes ) {
+        this.syllabes = syllabes;
+        dansArbre = new boolean[ syllabes.length ];
+        presents = new boolean[ syllabes.length ];
+    }
+
+
+    /**
+     * Retourne le nombre d'éléments présents.
+     *
+     * @return le nombre d'éléments présents.
+     */
+    public int taille() {
+        return taille;
+    }
+
+
+    /**
+     * Indique si un élément est présent.
+     *
+     * @param element l'indice d'une syllabe du vocabulaire.
+     * @return {@code true} si l'élément a été ajouté et pas retiré depuis.
+     */
+    public boolean contient( int element ) {
+        return presents[ element ];
+    }
+
+
+    /**
+     * Ajoute un élément, ou le rend présent de nouveau s'il avait été retiré.
+     *
+     * @param element l'indice d'une syllabe du vocabulaire.
+     */
+    public void ajouter( int element ) {
+        if( !dansArbre[ element ] ) {
+            inserer( element );
+            dansArbre[ element ] = true;
+        }
+        if( !presents[ element ] ) {
+            presents[ element ] = true;
+            ++taille;
+        }
+    }
+
+
+    /**
+     * Retire un élément.  Son noeud reste dans l'arbre, marqué absent.
+     *
+     * @param element l'indice d'une syllabe du vocabulaire.
+     */
+    public void retirer( int element ) {
+        if( presents[ element ] ) {
+            presents[ element ] = false;
+            --taille;
+            if( 2 * taille < nombreDeNoeuds ) {
+                reconstruire();
+            }
+        }
+    }
+
+
+    /**
+     * Reconstruit l'arbre avec seulement les éléments présents.
+     */
+    private void reconstruire() {
+        racine = null;
+        nombreDeNoeuds = 0;
+        for( int element = 0; element < syllabes.length; ++element ) {
+            dansArbre[ element ] = presents[ element ];
+            if( presents[ element ] ) {
+                inserer( element );
+            }
+        }
+    }
+
+
+    /**
+     * Place un nouveau noeud dans l'arbre.
+     *
+     * @param element l'indice d'une syllabe du vocabulaire, qui n'a pas encore de noeud.
+     */
+    private void inserer( int element ) {
+        Noeud nouveau = new Noeud( element );
+
+        ++nombreDeNoeuds;
+        if( null == racine ) {
+            racine = nouveau;
+        } else {
+            Noeud noeud = racine;
+            boolean place = false;
+
+            while( !place ) {
+                int distance = syllabes[ element ].calculerDistanceSyllabe( syllabes[ noeud.element ] );
+
+                if( null == noeud.enfants ) {
+                    noeud.enfants = new Noeud[ TexteSonore.DISTANCE_MINIMALE ];
+                }
+                if( null == noeud.enfants[ distance ] ) {
+                    noeud.enfants[ distance ] = nouveau;
+                    place = true;
+                } else {
+                    noeud = noeud.enfants[ distance ];
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Cherche les éléments présents à distance au plus {@code rayon} d'une syllabe.
+     *
+     * @param requete la syllabe cherchée.
+     * @param rayon la plus grande distance acceptée.
+     * @return les éléments trouvés, dans un ordre quelconque.
+     */
+    public List< Integer > trouverDansRayon( SyllabeFrancais requete, int rayon ) {
+        List< Integer > resultat = new ArrayList<>();
+        List< Noeud > aVisiter = new ArrayList<>();
+
+        if( null != racine ) {
+            aVisiter.add( racine );
+        }
+        while( !aVisiter.isEmpty() ) {
+            Noeud noeud = aVisiter.remove( aVisiter.size() - 1 );
+            int distance = requete.calculerDistanceSyllabe( syllabes[ noeud.element ] );
+
+            if( distance <= rayon && presents[ noeud.element ] ) {
+                resultat.add( noeud.element );
+            }
+            if( null != noeud.enfants ) {
+                int fin = Math.min( noeud.enfants.length - 1, distance + rayon );
+
+                for( int k = Math.max( 0, distance - rayon ); k <= fin; ++k ) {
+                    if( null != noeud.enfants[ k ] ) {
+                        aVisiter.add( noeud.enfants[ k ] );
+                    }
+                }
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Cherche l'élément présent le plus proche d'une syllabe parmi les éléments acceptés.
+     *
+     * @param requete la syllabe cherchée.
+     * @param acceptes les éléments qui peuvent être retournés.
+     * @param rangs le rang de chaque élément.  Entre deux éléments à la même distance, celui de plus petit rang est
+     *              retourné.
+     * @return l'élément le plus proche, ou {@code AUCUN} si aucun élément présent n'est accepté.
+     */
+    public int trouverPlusProche( SyllabeFrancais requete, IntPredicate acceptes, IntUnaryOperator rangs ) {
+        int[] meilleur = new int[]{ AUCUN, TexteSonore.DISTANCE_MINIMALE };
+
+        if( null != racine ) {
+            chercherPlusProche( racine, requete, acceptes, rangs, meilleur );
+        }
+
+        return meilleur[ 0 ];
+    }
+
+
+    /**
+     * Cherche l'élément le plus proche dans un sous-arbre.
+     *
+     * @param noeud la racine du sous-arbre.
+     * @param requete la syllabe cherchée.
+     * @param acceptes les éléments qui peuvent être retournés.
+     * @param rangs le rang de chaque élément.
+     * @param meilleur le meilleur élément trouvé et sa distance, mis à jour.
+     */
+    private void chercherPlusProche( Noeud noeud, SyllabeFrancais requete, IntPredicate acceptes,
+                                     IntUnaryOperator rangs, int[] meilleur ) {
+        int distance = requete.calculerDistanceSyllabe( syllabes[ noeud.element ] );
+
+        if( presents[ noeud.element ] && ( distance < meilleur[ 1 ] || ( distance == meilleur[ 1 ]
+                && AUCUN != meilleur[ 0 ] && rangs.applyAsInt( noeud.element ) < rangs.applyAsInt( meilleur[ 0 ] ) ) )
+                && acceptes.test( noeud.element ) ) {
+            meilleur[ 0 ] = noeud.element;
+            meilleur[ 1 ] = distance;
+        }
+        if( null != noeud.enfants ) {
+            // Les enfants les plus proches de la distance au noeud d'abord : ils réduisent le plus vite le rayon.
+            for( int ecart = 0; ecart <= meilleur[ 1 ]; ++ecart ) {
+                if( distance - ecart >= 0 && null != noeud.enfants[ distance - ecart ] ) {
+                    chercherPlusProche( noeud.enfants[ distance - ecart ], requete, acceptes, rangs, meilleur );
+                }
+                if( ecart > 0 && distance + ecart < noeud.enfants.length
+                        && null != noeud.enfants[ distance + ecart ] ) {
+                    chercherPlusProche( noeud.enfants[ distance + ecart ], requete, acceptes, rangs, meilleur );
+                }
+            }
+        }
+    }
+}
@@ -7,12 +7,31 @@ import java.util.Scanner;
  * Décrit le son d'un groupe de consonne en français.
  *
  * Cette description permet de contenir une ou deux consonnes afin de décrire le son des consonnes dans une syllabe.
+ * Chaque groupe possible existe aussi sous forme canonique, obtenue par {@code obtenir}, et chaque groupe a un
+ * indice dense qui permet de lire la distance entre deux groupes dans une table calculée une seule fois.
  *
  * @see API_Consonne
  * @see SyllabeFrancais
  * @see <a href="https://fr.wiktionary.org/wiki/Annexe:Prononciation/fran%C3%A7ais">référence</a>
  */
 public class ConsonneFrancais {
+    /**
+     * Le nombre de codes possibles pour une consonne d'un groupe : {@code 0} pour une consonne absente, ou
+     * l'ordinal de la {@code API_Consonne} plus un.
+     */
+    private static final int NOMBRE_CODES = API_Consonne.values().length + 1;
+
+    /**
+     * La distance entre deux consonnes, indexée par {@code code1 * NOMBRE_CODES + code2}.  Deux consonnes absentes
+     * sont à distance {@code 0} et une consonne absente est à distance {@code 6} d'une consonne présente.
+     */
+    private static final byte[] DISTANCES = construireDistances();
+
+    /**
+     * Les groupes canoniques, placés à leur indice.  Les cases dont la consonne de base est absente sont vides.
+     */
+    private static final ConsonneFrancais[] GROUPES = construireGroupes();
+
     /**
      * La consonne de base du groupe de consonne.
      * Ne doit pas être {@code null}.
@@ -25,6 +44,22 @@ public class ConsonneFrancais {
      */
     protected API_Consonne consonne2 = null;
 
+    /**
+     * Le code de la consonne de base dans la table {@code DISTANCES}.
+     */
+    private final int code1;
+
+    /**
+     * Le code de la consonne secondaire dans la table {@code DISTANCES}, {@code 0} si elle est absente.
+     */
+    private final int code2;
+
+    /**
+     * L'indice dense du groupe : le code de la consonne de base multiplié par {@code NOMBRE_CODES}, plus le code de
+     * la consonne secondaire.  Deux groupes égaux ont le même indice.
+     */
+    private final int indice;
+
 
     /**
      * Construit un groupe avec une seule consonne.
@@ -32,7 +67,7 @@ public class ConsonneFrancais {
      * @param consonne1 La consonne du groupe.  Elle est placé comme consonne de base.  Ne doit pas être {@code null}.
      */
     public ConsonneFrancais( API_Consonne consonne1 ) {
-        this.consonne1 = consonne1;
+        this( consonne1, null );
     }
 
 
@@ -45,6 +80,38 @@ public class ConsonneFrancais {
     public ConsonneFrancais( API_Consonne consonne1, API_Consonne consonne2 ) {
         this.consonne1 = consonne1;
         this.consonne2 = consonne2;
+        this.code1 = code( consonne1 );
+        this.code2 = code( consonne2 );
+        this.indice = code1 * NOMBRE_CODES + code2;
+    }
+
+
+    /**
+     * Retourne le groupe canonique contenant une seule consonne.
+     *
+     * Le même objet est retourné à chaque appel avec la même consonne.  Un groupe canonique ne doit pas être
+     * modifié.
+     *
+     * @param consonne1 La consonne du groupe.  Ne doit pas être {@code null}.
+     * @return le groupe canonique.
+     */
+    public static ConsonneFrancais obtenir( API_Consonne consonne1 ) {
+        return GROUPES[ code( consonne1 ) * NOMBRE_CODES ];
+    }
+
+
+    /**
+     * Retourne le groupe canonique contenant deux consonnes.
+     *
+     * Le même objet est retourné à chaque appel avec les mêmes consonnes.  Un groupe canonique ne doit pas être
+     * modifié.
+     *
+     * @param consonne1 La consonne de base du groupe.  Ne doit pas être {@code null}.
+     * @param consonne2 La consonne secondaire du groupe, ou {@code null} si elle est absente.
+     * @return le groupe canonique.
+     */
+    public static ConsonneFrancais obtenir( API_Consonne consonne1, API_Consonne consonne2 ) {
+        return GROUPES[ code( consonne1 ) * NOMBRE_CODES + code( consonne2 ) ];
     }
 
 
@@ -69,9 +136,9 @@ public class ConsonneFrancais {
 
         try {
             consonne2 = API_Consonne.lire( scanner );
-            resultat = new ConsonneFrancais( consonne1, consonne2 );
+            resultat = obtenir( consonne1, consonne2 );
         } catch ( NoSuchElementException e ) {
-            resultat = new ConsonneFrancais( consonne1 );
+            resultat = obtenir( consonne1 );
         }
 
         return resultat;
@@ -103,20 +170,81 @@ public class ConsonneFrancais {
     }
 
 
+    /**
+     * Calcule un code de hachage cohérent avec {@code equals}.
+     * @return l'indice dense du groupe.
+     */
+    @Override
+    public int hashCode() {
+        return indice;
+    }
+
+
     /**
      * Calcule la distance entre deux groupes de consonnes.
+     *
+     * C'est la distance entre les consonnes de base plus celle entre les consonnes secondaires, chacune lue dans
+     * la table {@code DISTANCES}.
      * @param consonne le groupe de consonnes à comparer.
      * @return la distance entre les deux groupes de consonnes.
      */
     public int calculerDistanceConsonne (ConsonneFrancais consonne) {
-        int distance = 0;
-        if((consonne2 == null && consonne.consonne2 !=  null) || (consonne2 != null && consonne.consonne2 ==  null)) {
-            distance = 6;
-        } else if (consonne2 == null && consonne.consonne2 ==  null) {
-        } else {
-            distance = consonne2.calculerDistanceApiConsonne(consonne.consonne2);
+        return DISTANCES[ code1 * NOMBRE_CODES + consonne.code1 ] + DISTANCES[ code2 * NOMBRE_CODES + consonne.code2 ];
+    }
+
+
+    /**
+     * Retourne le code d'une consonne dans les tables.
+     *
+     * @param consonne la consonne, peut être {@code null}.
+     * @return {@code 0} si la consonne est {@code null}, sinon son ordinal plus un.
+     */
+    private static int code( API_Consonne consonne ) {
+        return null == consonne ? 0 : consonne.ordinal() + 1;
+    }
+
+
+    /**
+     * Calcule la distance entre toutes les paires de codes de consonne.
+     *
+     * @return la table des distances.
+     */
+    private static byte[] construireDistances() {
+        API_Consonne[] consonnes = API_Consonne.values();
+        byte[] resultat = new byte[ NOMBRE_CODES * NOMBRE_CODES ];
+
+        for( int i = 1; i < NOMBRE_CODES; ++i ) {
+            resultat[ i ] = 6;
+            resultat[ i * NOMBRE_CODES ] = 6;
+            for( int j = 1; j < NOMBRE_CODES; ++j ) {
+                resultat[ i * NOMBRE_CODES + j ] =
+                        (byte) consonnes[ i - 1 ].calculerDistanceApiConsonne( consonnes[ j - 1 ] );
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Construit tous les groupes canoniques.
+     *
+     * @return les groupes, placés à leur indice.
+     */
+    private static ConsonneFrancais[] construireGroupes() {
+        API_Consonne[] consonnes = API_Consonne.values();
+        ConsonneFrancais[] resultat = new ConsonneFrancais[ NOMBRE_CODES * NOMBRE_CODES ];
+
+        for( API_Consonne consonne1 : consonnes ) {
+            ConsonneFrancais groupe = new ConsonneFrancais( consonne1 );
+
+            resultat[ groupe.indice ] = groupe;
+            for( API_Consonne consonne2 : consonnes ) {
+                groupe = new ConsonneFrancais( consonne1, consonne2 );
+                resultat[ groupe.indice ] = groupe;
+            }
         }
-        distance += consonne1.calculerDistanceApiConsonne(consonne.consonne1);
-        return distance;
+
+        return resultat;
     }
 }
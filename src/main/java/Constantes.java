@@ -1,3 +1,6 @@
+import java.util.List;
+
+
 /**
  * Contient les différentes constantes utilisées par le logiciel.
  */
@@ -6,4 +9,109 @@ public class Constantes {
      * Le nombre minimal de syllabe que l'utilisateur doit entrer pour la réduction.
      */
     public static final int MIN_NOMBRE_SYLLABE = 1;
+
+    /**
+     * La taille, en octets, à partir de laquelle un fichier de syllabes est lu en parallèle.
+     */
+    public static final long TAILLE_LECTURE_PARALLELE = 16L << 20;
+
+    /**
+     * Option de la ligne de commande indiquant le fichier dans lequel le texte lu est écrit en format binaire,
+     * avant la réduction.
+     */
+    public static final String OPTION_BINAIRE = "-binaire=";
+
+    /**
+     * Option de la ligne de commande indiquant la façon de faire la réduction, suivie d'un des modes qui suivent.
+     */
+    public static final String OPTION_MODE = "-mode=";
+
+    /**
+     * Mode de réduction qui réécrit le texte à chaque fusion.  C'est le mode par défaut.
+     */
+    public static final String MODE_DIRECT = "direct";
+
+    /**
+     * Mode de réduction qui note les fusions et réécrit le texte une seule fois, avec {@code Reduction}.
+     */
+    public static final String MODE_DIFFERE = "differe";
+
+    /**
+     * Mode de réduction qui garde le plus proche voisin de chaque syllabe, avec {@code ReductionAgglomerative}.
+     */
+    public static final String MODE_AGGLOMERATIF = "agglomeratif";
+
+    /**
+     * Mode de réduction approximatif qui fait plusieurs fusions par tour, avec {@code ReductionParLots}.  Le nombre
+     * de tours est affiché sur le canal d'erreur, et l'écart avec la réduction exacte avec {@code OPTION_VERIFIER}.
+     */
+    public static final String MODE_LOTS = "lots";
+
+    /**
+     * Option de la ligne de commande indiquant l'écart de distance accepté au-dessus du minimum de chaque tour du
+     * mode {@code MODE_LOTS}.
+     */
+    public static final String OPTION_TOLERANCE = "-tolerance=";
+
+    /**
+     * L'écart de distance accepté par le mode {@code MODE_LOTS} sans l'option {@code OPTION_TOLERANCE}.
+     */
+    public static final int TOLERANCE_DEFAUT = 0;
+
+    /**
+     * Mode de réduction approximatif qui ne compare que les syllabes d'un même seau de hachage, avec
+     * {@code ReductionApproximative}.  Le nombre de recherches manquées est affiché sur le canal d'erreur.
+     */
+    public static final String MODE_APPROXIMATIF = "approximatif";
+
+    /**
+     * Option de la ligne de commande indiquant le nombre de tables de hachage du mode {@code MODE_APPROXIMATIF}.
+     */
+    public static final String OPTION_TABLES = "-tables=";
+
+    /**
+     * Le nombre de tables de hachage sans l'option {@code OPTION_TABLES}.
+     */
+    public static final int TABLES_DEFAUT = 8;
+
+    /**
+     * Option de la ligne de commande indiquant le nombre de bits gardés par chaque table de hachage du mode
+     * {@code MODE_APPROXIMATIF}.
+     */
+    public static final String OPTION_BITS = "-bits=";
+
+    /**
+     * Le nombre de bits gardés par chaque table sans l'option {@code OPTION_BITS}.
+     */
+    public static final int BITS_DEFAUT = 12;
+
+    /**
+     * Option de la ligne de commande qui compare le mode {@code MODE_LOTS} à la réduction exacte, et chaque
+     * recherche du mode {@code MODE_APPROXIMATIF} à la recherche exacte pour compter les paires manquées.
+     */
+    public static final String OPTION_VERIFIER = "-verifier";
+
+    /**
+     * Option de la ligne de commande indiquant le nombre de fils d'exécution utilisés pour chercher la paire de
+     * syllabes la plus proche.  Sans cette option, la recherche est séquentielle.
+     */
+    public static final String OPTION_FILS = "-fils=";
+
+    /**
+     * Option de la ligne de commande indiquant plusieurs nombres de syllabes à atteindre, séparés par
+     * {@code SEPARATEUR_CIBLES}.  La réduction est faite une seule fois, avec un {@code Dendrogramme}, et le texte
+     * réduit est affiché pour chaque cible.  Le nombre de syllabes n'est alors pas demandé.
+     */
+    public static final String OPTION_CIBLES = "-cibles=";
+
+    /**
+     * Le séparateur des nombres de syllabes de l'option {@code OPTION_CIBLES}.
+     */
+    public static final String SEPARATEUR_CIBLES = ",";
+
+    /**
+     * Tous les modes de réduction acceptés par {@code OPTION_MODE}.
+     */
+    public static final List< String > MODES = List.of( MODE_DIRECT, MODE_DIFFERE, MODE_AGGLOMERATIF, MODE_LOTS,
+            MODE_APPROXIMATIF );
 }
@@ -0,0 +1,148 @@
+import java.util.HashMap;
+import java.util.List;
+
+
+/**
+ * Toutes les fusions d'une réduction faite jusqu'à {@code Constantes.MIN_NOMBRE_SYLLABE} syllabes différentes.
+ *
+ * La réduction vers une cible fait toujours les mêmes premières fusions, dans le même ordre : une réduction vers
+ * {@code cible} syllabes différentes est formée des {@code n - cible} premières fusions, où {@code n} est le nombre de
+ * syllabes différentes du texte.  Les fusions sont gardées dans des tableaux d'indices du vocabulaire, ce qui permet
+ * de produire le texte réduit vers n'importe quelle cible en un seul parcours du texte, sans refaire la réduction.
+ *
+ * @see Reduction
+ * @see Constantes
+ */
+public class Dendrogramme {
+    /**
+     * Le texte d'origine.  N'est pas modifié.
+     */
+    private final TexteSonore texte;
+
+    /**
+     * Les syllabes distinctes du texte, dans l'ordre de leur première occurrence.
+     */
+    private final SyllabeFrancais[] vocabulaire;
+
+    /**
+     * L'indice de chaque syllabe dans {@code vocabulaire}.
+     */
+    private final HashMap< SyllabeFrancais, Integer > indices = new HashMap<>();
+
+    /**
+     * L'indice de la syllabe survivante de chaque fusion, dans l'ordre des fusions.
+     */
+    private final int[] survivantes;
+
+    /**
+     * L'indice de la syllabe absorbée de chaque fusion, dans l'ordre des fusions.
+     */
+    private final int[] absorbees;
+
+    /**
+     * La distance de chaque fusion, dans l'ordre des fusions.
+     */
+    private final int[] distances;
+
+
+    /**
+     * Fait une réduction jusqu'à {@code Constantes.MIN_NOMBRE_SYLLABE} syllabes différentes et garde ses fusions.
+     *
+     * @param reduction une réduction qui n'a pas encore été faite.  Son texte ne doit pas être modifié tant que le
+     *                  dendrogramme est utilisé.  {@code appliquer} ne doit pas être appelé.
+     */
+    public Dendrogramme( Reduction reduction ) {
+        reduction.reduire( Constantes.MIN_NOMBRE_SYLLABE );
+
+        texte = reduction.texte;
+        vocabulaire = reduction.vocabulaire.clone();
+        for( int i = 0; i < vocabulaire.length; ++i ) {
+            indices.put( vocabulaire[ i ], i );
+        }
+
+        List< Reduction.Fusion > fusions = reduction.getFusions();
+
+        survivantes = new int[ fusions.size() ];
+        absorbees = new int[ fusions.size() ];
+        distances = new int[ fusions.size() ];
+        for( int i = 0; i < fusions.size(); ++i ) {
+            Reduction.Fusion fusion = fusions.get( i );
+
+            survivantes[ i ] = indices.get( fusion.survivante );
+            absorbees[ i ] = indices.get( fusion.absorbee );
+            distances[ i ] = fusion.distance;
+        }
+    }
+
+
+    /**
+     * Retourne le nombre de syllabes différentes du texte d'origine.
+     *
+     * @return le nombre de syllabes différentes.
+     */
+    public int getNombreDeSons() {
+        return vocabulaire.length;
+    }
+
+
+    /**
+     * Retourne le nombre de fusions gardées.
+     *
+     * @return le nombre de fusions.
+     */
+    public int getNombreDeFusions() {
+        return survivantes.length;
+    }
+
+
+    /**
+     * Retourne la distance d'une fusion.
+     *
+     * @param fusion le numéro de la fusion, entre {@code 0} et {@code getNombreDeFusions() - 1}.
+     * @return la distance entre les deux syllabes fusionnées.
+     */
+    public int getDistance( int fusion ) {
+        return distances[ fusion ];
+    }
+
+
+    /**
+     * Calcule la syllabe qui remplace chaque syllabe du vocabulaire dans la réduction vers une cible.
+     *
+     * @param cible le nombre de syllabes différentes à atteindre.
+     * @return la syllabe qui remplace chaque syllabe de {@code vocabulaire}, aux mêmes positions.
+     */
+    private SyllabeFrancais[] calculerRemplacantes( int cible ) {
+        int nombreDeFusions = Math.max( 0, Math.min( survivantes.length, vocabulaire.length - cible ) );
+        EnsemblesDisjoints ensembles = new EnsemblesDisjoints( vocabulaire.length );
+        SyllabeFrancais[] resultat = new SyllabeFrancais[ vocabulaire.length ];
+
+        for( int i = 0; i < nombreDeFusions; ++i ) {
+            ensembles.unir( survivantes[ i ], absorbees[ i ] );
+        }
+        for( int i = 0; i < vocabulaire.length; ++i ) {
+            resultat[ i ] = vocabulaire[ ensembles.trouver( i ) ];
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Construit le texte réduit vers une cible, comme si la réduction s'était arrêtée à {@code cible} syllabes
+     * différentes.
+     *
+     * @param cible le nombre de syllabes différentes à atteindre.
+     * @return un nouveau texte réduit.  Le texte d'origine n'est pas modifié.
+     */
+    public TexteSonore materialiser( int cible ) {
+        SyllabeFrancais[] remplacantes = calculerRemplacantes( cible );
+        TexteSonore resultat = texte.clone();
+
+        if( cible < vocabulaire.length ) {
+            resultat.replaceAll( syllabe -> remplacantes[ indices.get( syllabe ) ] );
+        }
+
+        return resultat;
+    }
+}
@@ -0,0 +1,173 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+
+/**
+ * Écrit une suite de syllabes en symboles de l'API, avec une quantité de mémoire constante.
+ *
+ * Les points de code de chaque syllabe sont encodés directement dans un tampon réutilisé, en utf-8 pour un canal ou
+ * en utf-16 pour un {@code Writer}.  Le tampon est vidé dès qu'il n'a plus assez de place pour une syllabe.
+ * Le texte produit est identique à celui de {@code TexteSonore.toString}.
+ *
+ * @see TexteSonore
+ * @see LecteurSyllabes
+ */
+public class EcrivainSyllabes {
+    /**
+     * La taille du tampon d'écriture.
+     */
+    private static final int TAILLE_TAMPON = 1 << 16;
+
+    /**
+     * La place nécessaire pour une syllabe et son séparateur : au plus huit points de code de trois octets.
+     */
+    private static final int TAILLE_MAX_SYLLABE = 8 * 3;
+
+    /**
+     * Le point de code du séparateur écrit entre les syllabes.
+     */
+    private static final int SEPARATEUR = TexteSonore.SEPARATEUR.codePointAt( 0 );
+
+    /**
+     * Le canal qui reçoit le texte en utf-8, ou {@code null} si l'écriture se fait dans {@code writer}.
+     */
+    private final WritableByteChannel canal;
+
+    /**
+     * Le {@code Writer} qui reçoit le texte, ou {@code null} si l'écriture se fait dans {@code canal}.
+     */
+    private final Writer writer;
+
+    /**
+     * Le tampon d'octets utilisé pour {@code canal}.
+     */
+    private final ByteBuffer octets;
+
+    /**
+     * Le tampon de caractères utilisé pour {@code writer}.
+     */
+    private final char[] caracteres;
+
+    /**
+     * Le nombre de caractères en attente dans {@code caracteres}.
+     */
+    private int nombreCaracteres = 0;
+
+    /**
+     * Indique qu'au moins une syllabe a été écrite, et donc que la prochaine doit être précédée du séparateur.
+     */
+    private boolean separer = false;
+
+
+    /**
+     * Construit un écrivain qui encode le texte en utf-8 dans un canal.  Le canal n'est pas fermé par l'écrivain.
+     *
+     * @param canal le canal qui reçoit le texte.  Ne doit pas être {@code null}.
+     */
+    public EcrivainSyllabes( WritableByteChannel canal ) {
+        this.canal = canal;
+        this.writer = null;
+        this.octets = ByteBuffer.allocate( TAILLE_TAMPON );
+        this.caracteres = null;
+    }
+
+
+    /**
+     * Construit un écrivain qui écrit le texte dans un {@code Writer}.  Le {@code Writer} n'est pas fermé par
+     * l'écrivain.
+     *
+     * @param writer le {@code Writer} qui reçoit le texte.  Ne doit pas être {@code null}.
+     */
+    public EcrivainSyllabes( Writer writer ) {
+        this.canal = null;
+        this.writer = writer;
+        this.octets = null;
+        this.caracteres = new char[ TAILLE_TAMPON ];
+    }
+
+
+    /**
+     * Écrit une syllabe, précédée du séparateur si ce n'est pas la première.
+     *
+     * @param syllabe la syllabe à écrire.  Ne doit pas être {@code null}.
+     * @throws IOException si l'écriture échoue.
+     */
+    public void ecrire( SyllabeFrancais syllabe ) throws IOException {
+        if( null == canal ? caracteres.length - nombreCaracteres < TAILLE_MAX_SYLLABE
+                : octets.remaining() < TAILLE_MAX_SYLLABE ) {
+            vider();
+        }
+
+        if( separer ) {
+            ajouter( SEPARATEUR );
+        }
+        separer = true;
+
+        ajouter( syllabe.attaque );
+        if( null != syllabe.noyau.semiVoyelle ) {
+            ajouter( syllabe.noyau.semiVoyelle.getCodePoint() );
+        }
+        if( syllabe.noyau.nasal ) {
+            ajouter( VoyelleFrancais.TILDE_CODE_POINT );
+        }
+        ajouter( syllabe.noyau.voyelle.getCodePoint() );
+        ajouter( syllabe.coda );
+    }
+
+
+    /**
+     * Écrit tout ce qui est en attente dans le tampon.
+     *
+     * @throws IOException si l'écriture échoue.
+     */
+    public void vider() throws IOException {
+        if( null == canal ) {
+            writer.write( caracteres, 0, nombreCaracteres );
+            nombreCaracteres = 0;
+        } else {
+            octets.flip();
+            while( octets.hasRemaining() ) {
+                canal.write( octets );
+            }
+            octets.clear();
+        }
+    }
+
+
+    /**
+     * Ajoute les consonnes d'un groupe au tampon.
+     *
+     * @param groupe le groupe de consonnes, peut être {@code null}.
+     */
+    private void ajouter( ConsonneFrancais groupe ) {
+        if( null != groupe ) {
+            ajouter( groupe.consonne1.getCodePoint() );
+            if( null != groupe.consonne2 ) {
+                ajouter( groupe.consonne2.getCodePoint() );
+            }
+        }
+    }
+
+
+    /**
+     * Encode un point de code du plan multilingue de base dans le tampon.
+     *
+     * @param codePoint le point de code à ajouter.
+     */
+    private void ajouter( int codePoint ) {
+        if( null == canal ) {
+            caracteres[ nombreCaracteres++ ] = (char) codePoint;
+        } else if( codePoint < 0x80 ) {
+            octets.put( (byte) codePoint );
+        } else if( codePoint < 0x800 ) {
+            octets.put( (byte) ( 0xC0 | ( codePoint >> 6 ) ) );
+            octets.put( (byte) ( 0x80 | ( codePoint & 0x3F ) ) );
+        } else {
+            octets.put( (byte) ( 0xE0 | ( codePoint >> 12 ) ) );
+            octets.put( (byte) ( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) ) );
+            octets.put( (byte) ( 0x80 | ( codePoint & 0x3F ) ) );
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Une structure d'ensembles disjoints (union-find) sur les entiers de {@code 0} à {@code taille - 1}.
+ *
+ * Chaque ensemble est identifié par un de ses éléments, son représentant.  Contrairement à l'union habituelle par
+ * rang, {@code unir} laisse l'appelant choisir l'élément dont le représentant est gardé, ce qui permet de garder la
+ * syllabe survivante d'une fusion comme représentant.  La compression des chemins garde les recherches rapides.
+ *
+ * @see Reduction
+ */
+public class EnsemblesDisjoints {
+    /**
+     * Le parent de chaque élément.  Un représentant est son propre parent.
+     */
+    private final int[] parents;
+
+
+    /**
+     * Construit des ensembles qui contiennent chacun un seul élément.
+     *
+     * @param taille le nombre d'éléments.
+     */
+    public EnsemblesDisjoints( int taille ) {
+        parents = new int[ taille ];
+        for( int i = 0; i < taille; ++i ) {
+            parents[ i ] = i;
+        }
+    }
+
+
+    /**
+     * Trouve le représentant de l'ensemble qui contient un élément.
+     *
+     * @param element l'élément.
+     * @return le représentant de son ensemble.
+     */
+    public int trouver( int element ) {
+        int resultat = element;
+
+        while( parents[ resultat ] != resultat ) {
+            parents[ resultat ] = parents[ parents[ resultat ] ];
+            resultat = parents[ resultat ];
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Réunit les ensembles de deux éléments.
+     *
+     * @param garde un élément de l'ensemble dont le représentant devient celui de la réunion.
+     * @param absorbe un élément de l'ensemble absorbé.
+     */
+    public void unir( int garde, int absorbe ) {
+        int representant = trouver( garde );
+        int autre = trouver( absorbe );
+
+        parents[ autre ] = representant;
+    }
+
+
+    /**
+     * Retourne le nombre d'éléments.
+     *
+     * @return le nombre d'éléments.
+     */
+    public int taille() {
+        return parents.length;
+    }
+}
@@ -4,6 +4,9 @@
 public enum Erreur {
     FICHIER_INEXISTANT( -101, Textes.MSSG_ERREUR_FICHIER_INEXISTANT ),
     NOMBRE_SYLLABE( -102, Textes.MSSG_ERREUR_NOMBRE_SYLLABE ),
+    LECTURE_FICHIER( -103, Textes.MSSG_ERREUR_LECTURE_FICHIER ),
+    ECRITURE_FICHIER( -104, Textes.MSSG_ERREUR_ECRITURE_FICHIER ),
+    OPTION_INVALIDE( -105, Textes.MSSG_ERREUR_OPTION_INVALIDE ),
     ;
 
     /**
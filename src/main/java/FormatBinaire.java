@@ -0,0 +1,366 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Lit et écrit une suite de syllabes dans un format binaire compact.
+ *
+ * Le fichier contient, dans l'ordre :
+ * <ul>
+ *     <li>un entête : le nombre magique {@code MAGIE}, la version du format, le nombre de syllabes distinctes et le
+ *     nombre de syllabes du texte ;</li>
+ *     <li>le dictionnaire des syllabes distinctes, dans l'ordre de leur première apparition.  Chaque syllabe occupe
+ *     {@code TAILLE_ENTREE} octets contenant les ordinaux de ses phonèmes ;</li>
+ *     <li>la suite des indices des syllabes du texte dans le dictionnaire, encodés en entiers de longueur variable
+ *     (7 bits par octet, le bit de poids fort indiquant qu'un autre octet suit).</li>
+ * </ul>
+ * Les entiers de l'entête sont écrits en gros-boutiste.  Un phonème absent est représenté par {@code 0}, les autres
+ * par leur ordinal plus un.
+ *
+ * @see TexteSonore
+ */
+public class FormatBinaire {
+    /**
+     * Les quatre premiers octets d'un fichier binaire : "TSB1" en ascii.
+     */
+    public static final int MAGIE = 0x54534231;
+
+    /**
+     * La version du format écrite dans l'entête.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Le nombre d'octets utilisés par une syllabe dans le dictionnaire.
+     */
+    private static final int TAILLE_ENTREE = 7;
+
+    /**
+     * La taille de l'entête, en octets.
+     */
+    private static final int TAILLE_ENTETE = 4 + 4 + 4 + 8;
+
+    /**
+     * La taille du tampon utilisé pour les lectures et les écritures.
+     */
+    private static final int TAILLE_TAMPON = 1 << 16;
+
+    /**
+     * Le nombre maximal d'octets d'un indice encodé.
+     */
+    private static final int TAILLE_MAX_INDICE = 5;
+
+    /**
+     * Les consonnes, indexées par leur ordinal.
+     */
+    private static final API_Consonne[] CONSONNES = API_Consonne.values();
+
+    /**
+     * Les voyelles, indexées par leur ordinal.
+     */
+    private static final API_Voyelle[] VOYELLES = API_Voyelle.values();
+
+
+    /**
+     * Indique si un fichier commence par le nombre magique du format binaire.
+     *
+     * @param fichier le chemin du fichier à vérifier.
+     * @return {@code true} si le fichier est dans le format binaire.  {@code false} s'il ne l'est pas ou s'il ne peut
+     * pas être lu.
+     */
+    public static boolean estBinaire( Path fichier ) {
+        boolean resultat = false;
+
+        try( FileChannel canal = FileChannel.open( fichier, StandardOpenOption.READ ) ) {
+            ByteBuffer tampon = ByteBuffer.allocate( 4 );
+
+            while( tampon.hasRemaining() && canal.read( tampon ) >= 0 ) {
+            }
+            resultat = !tampon.hasRemaining() && MAGIE == tampon.getInt( 0 );
+        } catch( IOException e ) {
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Écrit une suite de syllabes dans un fichier binaire.  Le fichier est remplacé s'il existe.
+     *
+     * @param texte la suite de syllabes à écrire.
+     * @param fichier le chemin du fichier à écrire.
+     * @throws IOException si l'écriture échoue.
+     */
+    public static void ecrire( TexteSonore texte, Path fichier ) throws IOException {
+        Map< Long, Integer > indices = new HashMap<>();
+        List< SyllabeFrancais > dictionnaire = new ArrayList<>();
+        int[] suite = new int[ texte.size() ];
+
+        for( int i = 0; i < suite.length; ++i ) {
+            SyllabeFrancais syllabe = texte.get( i );
+            Integer indice = indices.putIfAbsent( SyllabeCompacte.encoder( syllabe ), dictionnaire.size() );
+
+            if( null == indice ) {
+                indice = dictionnaire.size();
+                dictionnaire.add( syllabe );
+            }
+            suite[ i ] = indice;
+        }
+
+        try( FileChannel canal = FileChannel.open( fichier, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING ) ) {
+            ByteBuffer tampon = ByteBuffer.allocate( TAILLE_TAMPON );
+
+            tampon.putInt( MAGIE ).putInt( VERSION ).putInt( dictionnaire.size() ).putLong( suite.length );
+            for( SyllabeFrancais syllabe : dictionnaire ) {
+                vider( canal, tampon, TAILLE_ENTREE );
+                ecrireEntree( tampon, syllabe );
+            }
+            for( int indice : suite ) {
+                vider( canal, tampon, TAILLE_MAX_INDICE );
+                while( ( indice & ~0x7F ) != 0 ) {
+                    tampon.put( (byte) ( ( indice & 0x7F ) | 0x80 ) );
+                    indice >>>= 7;
+                }
+                tampon.put( (byte) indice );
+            }
+            vider( canal, tampon, tampon.capacity() );
+        }
+    }
+
+
+    /**
+     * Lit une suite de syllabes dans un fichier binaire et l'ajoute à la fin d'un texte.
+     *
+     * Chaque syllabe distincte n'est construite qu'une seule fois et partagée par toutes ses occurrences.
+     *
+     * @param fichier le chemin du fichier à lire.
+     * @param texte le texte qui reçoit les syllabes lues.
+     * @throws IOException si la lecture échoue ou si le fichier n'est pas dans le format binaire.
+     */
+    public static void lire( Path fichier, TexteSonore texte ) throws IOException {
+        try( FileChannel canal = FileChannel.open( fichier, StandardOpenOption.READ ) ) {
+            ByteBuffer tampon = ByteBuffer.allocate( TAILLE_TAMPON ).flip();
+
+            remplir( canal, tampon, TAILLE_ENTETE );
+            if( MAGIE != tampon.getInt() || VERSION != tampon.getInt() ) {
+                throw new IOException( "format binaire invalide" );
+            }
+
+            int nombreDistinctes = tampon.getInt();
+            long nombreSyllabes = tampon.getLong();
+
+            // Chaque entrée du dictionnaire occupe TAILLE_ENTREE octets et chaque indice au moins un octet : les
+            // nombres de l'entête ne peuvent pas dépasser ce que le fichier contient, ce qui évite d'allouer selon
+            // un entête corrompu.
+            long restants = canal.size() - TAILLE_ENTETE;
+
+            if( nombreDistinctes < 0 || (long) nombreDistinctes * TAILLE_ENTREE > restants ) {
+                throw new IOException( "format binaire invalide" );
+            }
+            restants -= (long) nombreDistinctes * TAILLE_ENTREE;
+            if( nombreSyllabes < 0 || nombreSyllabes > restants || nombreSyllabes > Integer.MAX_VALUE ) {
+                throw new IOException( "format binaire invalide" );
+            }
+
+            SyllabeFrancais[] dictionnaire = new SyllabeFrancais[ nombreDistinctes ];
+
+            for( int i = 0; i < nombreDistinctes; ++i ) {
+                remplir( canal, tampon, TAILLE_ENTREE );
+                dictionnaire[ i ] = lireEntree( tampon );
+            }
+
+            texte.ensureCapacity( texte.size() + (int) nombreSyllabes );
+            for( long i = 0; i < nombreSyllabes; ++i ) {
+                if( tampon.remaining() < TAILLE_MAX_INDICE ) {
+                    remplir( canal, tampon, 1 );
+                }
+
+                int indice = 0;
+                int decalage = 0;
+                byte octet;
+
+                do {
+                    if( !tampon.hasRemaining() || decalage > 28 ) {
+                        throw new IOException( "format binaire invalide" );
+                    }
+                    octet = tampon.get();
+                    indice |= ( octet & 0x7F ) << decalage;
+                    decalage += 7;
+                } while( octet < 0 );
+
+                if( indice < 0 || indice >= nombreDistinctes ) {
+                    throw new IOException( "format binaire invalide" );
+                }
+                texte.add( dictionnaire[ indice ] );
+            }
+        }
+    }
+
+
+    /**
+     * Écrit les ordinaux des phonèmes d'une syllabe.
+     *
+     * @param tampon le tampon qui reçoit les {@code TAILLE_ENTREE} octets.
+     * @param syllabe la syllabe à écrire.
+     */
+    private static void ecrireEntree( ByteBuffer tampon, SyllabeFrancais syllabe ) {
+        ecrireConsonnes( tampon, syllabe.attaque );
+        tampon.put( ordinal( syllabe.noyau.semiVoyelle ) );
+        tampon.put( ordinal( syllabe.noyau.voyelle ) );
+        tampon.put( (byte) ( syllabe.noyau.nasal ? 1 : 0 ) );
+        ecrireConsonnes( tampon, syllabe.coda );
+    }
+
+
+    /**
+     * Écrit les ordinaux d'un groupe de consonnes, ou deux zéros si le groupe est absent.
+     *
+     * @param tampon le tampon qui reçoit les deux octets.
+     * @param groupe le groupe de consonnes, peut être {@code null}.
+     */
+    private static void ecrireConsonnes( ByteBuffer tampon, ConsonneFrancais groupe ) {
+        tampon.put( null == groupe ? 0 : ordinal( groupe.consonne1 ) );
+        tampon.put( null == groupe ? 0 : ordinal( groupe.consonne2 ) );
+    }
+
+
+    /**
+     * Lit une syllabe écrite par {@code ecrireEntree}.
+     *
+     * @param tampon le tampon qui contient les {@code TAILLE_ENTREE} octets.
+     * @return la syllabe lue.
+     * @throws IOException si un ordinal est invalide.
+     */
+    private static SyllabeFrancais lireEntree( ByteBuffer tampon ) throws IOException {
+        ConsonneFrancais attaque = lireConsonnes( tampon );
+        API_Voyelle semiVoyelle = voyelle( tampon.get() );
+        API_Voyelle voyelle = voyelle( tampon.get() );
+        boolean nasal = 0 != tampon.get();
+        ConsonneFrancais coda = lireConsonnes( tampon );
+
+        if( null == voyelle ) {
+            throw new IOException( "format binaire invalide" );
+        }
+
+        VoyelleFrancais noyau = null == semiVoyelle
+                ? VoyelleFrancais.obtenir( voyelle, nasal )
+                : VoyelleFrancais.obtenir( semiVoyelle, voyelle, nasal );
+
+        return SyllabeFrancais.obtenir( attaque, noyau, coda );
+    }
+
+
+    /**
+     * Lit un groupe de consonnes écrit par {@code ecrireConsonnes}.
+     *
+     * @param tampon le tampon qui contient les deux octets.
+     * @return le groupe lu, ou {@code null} s'il est absent.
+     * @throws IOException si un ordinal est invalide.
+     */
+    private static ConsonneFrancais lireConsonnes( ByteBuffer tampon ) throws IOException {
+        API_Consonne consonne1 = consonne( tampon.get() );
+        API_Consonne consonne2 = consonne( tampon.get() );
+        ConsonneFrancais resultat = null;
+
+        if( null != consonne1 ) {
+            resultat = null == consonne2
+                    ? ConsonneFrancais.obtenir( consonne1 )
+                    : ConsonneFrancais.obtenir( consonne1, consonne2 );
+        } else if( null != consonne2 ) {
+            throw new IOException( "format binaire invalide" );
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Encode un phonème sur un octet.
+     *
+     * @param phoneme le phonème, peut être {@code null}.
+     * @return {@code 0} si le phonème est absent, sinon son ordinal plus un.
+     */
+    private static byte ordinal( Enum< ? > phoneme ) {
+        return (byte) ( null == phoneme ? 0 : phoneme.ordinal() + 1 );
+    }
+
+
+    /**
+     * Décode une consonne encodée par {@code ordinal}.
+     *
+     * @param code l'octet lu.
+     * @return la consonne, ou {@code null} si elle est absente.
+     * @throws IOException si le code ne correspond à aucune consonne.
+     */
+    private static API_Consonne consonne( int code ) throws IOException {
+        if( code < 0 || code > CONSONNES.length ) {
+            throw new IOException( "format binaire invalide" );
+        }
+        return 0 == code ? null : CONSONNES[ code - 1 ];
+    }
+
+
+    /**
+     * Décode une voyelle encodée par {@code ordinal}.
+     *
+     * @param code l'octet lu.
+     * @return la voyelle, ou {@code null} si elle est absente.
+     * @throws IOException si le code ne correspond à aucune voyelle.
+     */
+    private static API_Voyelle voyelle( int code ) throws IOException {
+        if( code < 0 || code > VOYELLES.length ) {
+            throw new IOException( "format binaire invalide" );
+        }
+        return 0 == code ? null : VOYELLES[ code - 1 ];
+    }
+
+
+    /**
+     * Écrit le contenu du tampon dans le canal s'il reste moins de {@code place} octets libres.
+     *
+     * @param canal le canal qui reçoit les octets.
+     * @param tampon le tampon en mode écriture.
+     * @param place le nombre d'octets libres nécessaires.
+     * @throws IOException si l'écriture échoue.
+     */
+    private static void vider( FileChannel canal, ByteBuffer tampon, int place ) throws IOException {
+        if( tampon.remaining() < place ) {
+            tampon.flip();
+            while( tampon.hasRemaining() ) {
+                canal.write( tampon );
+            }
+            tampon.clear();
+        }
+    }
+
+
+    /**
+     * Complète le tampon avec les octets suivants du canal lorsqu'il contient moins de {@code minimum} octets.
+     *
+     * @param canal le canal dans lequel lire.
+     * @param tampon le tampon en mode lecture.
+     * @param minimum le nombre d'octets nécessaires.
+     * @throws IOException si la lecture échoue ou si le canal se termine avant {@code minimum} octets.
+     */
+    private static void remplir( FileChannel canal, ByteBuffer tampon, int minimum ) throws IOException {
+        if( tampon.remaining() < minimum ) {
+            tampon.compact();
+            while( tampon.hasRemaining() && canal.read( tampon ) >= 0 ) {
+            }
+            tampon.flip();
+
+            if( tampon.remaining() < minimum ) {
+                throw new EOFException( "format binaire invalide : fin de fichier inattendue" );
+            }
+        }
+    }
+}
@@ -0,0 +1,449 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+
+/**
+ * Lit une suite de syllabes directement dans les octets utf-8 d'un canal.
+ *
+ * Les points de code sont décodés un à la fois dans un tampon réutilisé, puis passent par un automate
+ * attaque / noyau / coda.  Le lecteur ne garde qu'un seul point de code d'avance, ce qui suffit puisque la lecture
+ * par {@code Scanner} ne consomme jamais un caractère qui ne correspond pas au patron demandé.
+ *
+ * Le comportement reproduit celui de la lecture par {@code Scanner} : la lecture s'arrête au premier caractère qui ne
+ * peut pas compléter la syllabe en cours, et tout caractère autre qu'une fin de ligne est accepté comme séparateur
+ * (le {@code SEPARATEUR} était évalué comme une expression régulière).  Aucune exception n'est utilisée pour le
+ * contrôle du flot de lecture.
+ *
+ * @see TexteSonore
+ * @see SyllabeFrancais
+ */
+public class LecteurSyllabes {
+    /**
+     * Valeur utilisée pour indiquer qu'il n'y a plus de point de code à lire.
+     */
+    private static final int FIN = -1;
+
+    /**
+     * Point de code substitué à une séquence utf-8 invalide, comme le fait le décodeur de Java.
+     */
+    private static final int REMPLACEMENT = 0xFFFD;
+
+    /**
+     * La taille du tampon de lecture, en octets.
+     */
+    private static final int TAILLE_TAMPON = 1 << 16;
+
+    /**
+     * La taille maximale d'une fenêtre projetée en mémoire, en octets.
+     */
+    private static final long TAILLE_FENETRE = 1L << 28;
+
+    /**
+     * Tampon vide utilisé avant la projection de la première fenêtre.
+     */
+    private static final ByteBuffer VIDE = ByteBuffer.allocate( 0 );
+
+    /**
+     * Le canal dans lequel les octets sont lus.
+     */
+    private final ReadableByteChannel canal;
+
+    /**
+     * Le fichier lu par position lorsque le lecteur est limité à une plage d'octets, sinon {@code null}.
+     */
+    private final FileChannel fichier;
+
+    /**
+     * La position du prochain octet à lire dans {@code fichier}.  Lorsque le fichier est projeté en mémoire, c'est la
+     * position qui suit la fenêtre courante.
+     */
+    private long position;
+
+    /**
+     * La position qui suit le dernier octet de la plage à lire dans {@code fichier}.
+     */
+    private final long fin;
+
+    /**
+     * Indique que {@code fichier} est projeté en mémoire plutôt que copié dans un tampon.
+     */
+    private final boolean projete;
+
+    /**
+     * Le tampon contenant les octets lus mais pas encore décodés.  Lorsque le fichier est projeté en mémoire, c'est
+     * la fenêtre courante de la projection.
+     */
+    private ByteBuffer tampon;
+
+    /**
+     * Indique que le canal n'a plus d'octets à fournir.
+     */
+    private boolean finCanal = false;
+
+    /**
+     * Le prochain point de code, pas encore consommé.  Vaut {@code FIN} à la fin du canal.
+     */
+    private int suivant;
+
+    /**
+     * Indique que la lecture est terminée, normalement ou non.
+     */
+    private boolean arrete = false;
+
+    /**
+     * Indique que la lecture s'est arrêtée sur un caractère invalide plutôt qu'à la fin du canal.
+     */
+    private boolean interrompu = false;
+
+
+    /**
+     * Construit un lecteur sur un canal.  Le canal n'est pas fermé par le lecteur.
+     *
+     * @param canal le canal contenant le texte encodé en utf-8.  Ne doit pas être {@code null}.
+     * @throws IOException si la lecture du canal échoue.
+     */
+    public LecteurSyllabes( ReadableByteChannel canal ) throws IOException {
+        this( canal, null, 0, 0, false );
+    }
+
+
+    /**
+     * Construit un lecteur limité à une plage d'octets d'un fichier.
+     *
+     * Le fichier est lu par position, ce qui permet à plusieurs lecteurs de partager le même {@code FileChannel}.
+     * La plage doit commencer au début d'une syllabe.  Le fichier n'est pas fermé par le lecteur.
+     *
+     * @param fichier le fichier contenant le texte encodé en utf-8.  Ne doit pas être {@code null}.
+     * @param debut la position du premier octet à lire.
+     * @param fin la position qui suit le dernier octet à lire.
+     * @throws IOException si la lecture du fichier échoue.
+     */
+    public LecteurSyllabes( FileChannel fichier, long debut, long fin ) throws IOException {
+        this( null, fichier, debut, fin, false );
+    }
+
+
+    /**
+     * Construit un lecteur qui projette en mémoire une plage d'octets d'un fichier.
+     *
+     * Les octets sont décodés directement dans la projection, par fenêtres d'au plus {@code TAILLE_FENETRE}
+     * octets, sans être copiés sur le tas.  La plage doit commencer au début d'une syllabe.  Le fichier n'est pas
+     * fermé par le lecteur.
+     *
+     * @param fichier le fichier contenant le texte encodé en utf-8.  Ne doit pas être {@code null}.
+     * @param debut la position du premier octet à lire.
+     * @param fin la position qui suit le dernier octet à lire.
+     * @return le lecteur construit.
+     * @throws IOException si la projection du fichier échoue.
+     */
+    public static LecteurSyllabes projeter( FileChannel fichier, long debut, long fin ) throws IOException {
+        return new LecteurSyllabes( null, fichier, debut, fin, true );
+    }
+
+
+    /**
+     * Initialise le lecteur et décode le premier point de code.
+     *
+     * @param canal le canal lu séquentiellement, ou {@code null}.
+     * @param fichier le fichier lu par position, ou {@code null}.
+     * @param debut la position du premier octet à lire dans {@code fichier}.
+     * @param fin la position qui suit le dernier octet à lire dans {@code fichier}.
+     * @param projete {@code true} pour projeter {@code fichier} en mémoire plutôt que de le copier.
+     * @throws IOException si la lecture échoue.
+     */
+    private LecteurSyllabes( ReadableByteChannel canal, FileChannel fichier, long debut, long fin, boolean projete )
+            throws IOException {
+        this.canal = canal;
+        this.fichier = fichier;
+        this.position = debut;
+        this.fin = fin;
+        this.projete = projete;
+        tampon = projete ? VIDE : ByteBuffer.allocate( TAILLE_TAMPON ).flip();
+        suivant = decoder();
+    }
+
+
+    /**
+     * Indique si la lecture s'est arrêtée sur un caractère qui ne peut pas faire partie du texte.
+     *
+     * @return {@code true} si la lecture a été interrompue avant la fin du canal.
+     */
+    public boolean estInterrompu() {
+        return interrompu;
+    }
+
+
+    /**
+     * Lit la prochaine syllabe du canal ainsi que le séparateur qui la suit.
+     *
+     * @return la syllabe lue, ou {@code null} s'il n'y a plus de syllabe valide à lire.
+     * @throws IOException si la lecture du canal échoue.
+     */
+    public SyllabeFrancais lireSyllabe() throws IOException {
+        SyllabeFrancais resultat = null;
+
+        if( !arrete && FIN == suivant ) {
+            arrete = true;
+        }
+
+        if( !arrete ) {
+            ConsonneFrancais attaque = lireConsonnes();
+            VoyelleFrancais noyau = lireVoyelles();
+
+            if( null == noyau ) {
+                arrete = true;
+                interrompu = true;
+            } else {
+                resultat = SyllabeFrancais.obtenir( attaque, noyau, lireConsonnes() );
+                lireSeparateur();
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Lit un groupe d'une ou deux consonnes, s'il est présent.
+     *
+     * @return le groupe lu, ou {@code null} si le prochain caractère n'est pas une consonne.
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private ConsonneFrancais lireConsonnes() throws IOException {
+        ConsonneFrancais resultat = null;
+        API_Consonne consonne1 = API_Consonne.fromCodePoint( suivant );
+
+        if( null != consonne1 ) {
+            avancer();
+            API_Consonne consonne2 = API_Consonne.fromCodePoint( suivant );
+
+            if( null == consonne2 ) {
+                resultat = ConsonneFrancais.obtenir( consonne1 );
+            } else {
+                avancer();
+                resultat = ConsonneFrancais.obtenir( consonne1, consonne2 );
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Lit un groupe de voyelles en suivant les mêmes étapes que {@code VoyelleFrancais.lire} : un tilde optionnel,
+     * une voyelle, un tilde optionnel et une seconde voyelle optionnelle.
+     *
+     * @return le groupe lu, ou {@code null} s'il n'y a pas de voyelle valide.
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private VoyelleFrancais lireVoyelles() throws IOException {
+        VoyelleFrancais resultat = null;
+        boolean estNasal = lireTilde();
+        API_Voyelle voyelle = API_Voyelle.fromCodePoint( suivant );
+
+        if( null != voyelle ) {
+            avancer();
+            estNasal = lireTilde() || estNasal;
+            API_Voyelle voyelle2 = API_Voyelle.fromCodePoint( suivant );
+
+            if( null == voyelle2 ) {
+                resultat = VoyelleFrancais.obtenir( voyelle, estNasal );
+            } else {
+                avancer();
+                resultat = VoyelleFrancais.obtenir( voyelle, voyelle2, estNasal );
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Consomme le tilde de nasalisation s'il est le prochain caractère.
+     *
+     * @return {@code true} si un tilde a été consommé.
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private boolean lireTilde() throws IOException {
+        boolean resultat = VoyelleFrancais.TILDE_CODE_POINT == suivant;
+
+        if( resultat ) {
+            avancer();
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Consomme le séparateur qui suit une syllabe.  Une fin de ligne arrête la lecture, la fin du canal la termine.
+     *
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private void lireSeparateur() throws IOException {
+        if( FIN == suivant ) {
+            arrete = true;
+        } else if( estFinDeLigne( suivant ) ) {
+            arrete = true;
+            interrompu = true;
+        } else {
+            avancer();
+        }
+    }
+
+
+    /**
+     * Indique si un point de code est une fin de ligne, selon la définition utilisée par les expressions régulières.
+     *
+     * @param codePoint le point de code à vérifier.
+     * @return {@code true} si le point de code termine une ligne.
+     */
+    private static boolean estFinDeLigne( int codePoint ) {
+        return '\n' == codePoint
+                || '\r' == codePoint
+                || 0x0085 == codePoint
+                || 0x2028 == codePoint
+                || 0x2029 == codePoint;
+    }
+
+
+    /**
+     * Consomme le point de code courant et décode le suivant.
+     *
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private void avancer() throws IOException {
+        suivant = decoder();
+    }
+
+
+    /**
+     * Décode le prochain point de code utf-8 du tampon.
+     *
+     * @return le point de code décodé, {@code REMPLACEMENT} pour une séquence invalide ou {@code FIN}.
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private int decoder() throws IOException {
+        if( tampon.remaining() < 4 && !finCanal ) {
+            remplir();
+        }
+
+        if( !tampon.hasRemaining() ) {
+            return FIN;
+        }
+
+        int octet = tampon.get() & 0xFF;
+
+        if( octet < 0x80 ) {
+            return octet;
+        }
+
+        int longueur;
+        int minimum;
+        int resultat;
+
+        if( octet >= 0xC2 && octet < 0xE0 ) {
+            longueur = 1;
+            minimum = 0x80;
+            resultat = octet & 0x1F;
+        } else if( octet >= 0xE0 && octet < 0xF0 ) {
+            longueur = 2;
+            minimum = 0x800;
+            resultat = octet & 0x0F;
+        } else if( octet >= 0xF0 && octet < 0xF5 ) {
+            longueur = 3;
+            minimum = 0x10000;
+            resultat = octet & 0x07;
+        } else {
+            return REMPLACEMENT;
+        }
+
+        for( int i = 0; i < longueur; ++i ) {
+            if( !tampon.hasRemaining() || ( tampon.get( tampon.position() ) & 0xC0 ) != 0x80 ) {
+                return REMPLACEMENT;
+            }
+            resultat = ( resultat << 6 ) | ( tampon.get() & 0x3F );
+        }
+
+        if( resultat < minimum || resultat > Character.MAX_CODE_POINT
+                || ( resultat >= Character.MIN_SURROGATE && resultat <= Character.MAX_SURROGATE ) ) {
+            resultat = REMPLACEMENT;
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Complète le tampon avec les octets suivants du canal.
+     *
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private void remplir() throws IOException {
+        if( projete ) {
+            projeterFenetre();
+            return;
+        }
+
+        tampon.compact();
+
+        while( tampon.hasRemaining() && !finCanal ) {
+            if( lireOctets() < 0 ) {
+                finCanal = true;
+            }
+        }
+
+        tampon.flip();
+    }
+
+
+    /**
+     * Projette la fenêtre suivante du fichier, en commençant aux octets de la fenêtre courante pas encore décodés.
+     *
+     * @throws IOException si la projection échoue.
+     */
+    private void projeterFenetre() throws IOException {
+        long debut = position - tampon.remaining();
+        long taille = Math.min( TAILLE_FENETRE, fin - debut );
+
+        tampon = fichier.map( FileChannel.MapMode.READ_ONLY, debut, taille );
+        position = debut + taille;
+        finCanal = position >= fin;
+    }
+
+
+    /**
+     * Lit des octets dans l'espace libre du tampon, sans dépasser la fin de la plage lorsqu'il y en a une.
+     *
+     * @return le nombre d'octets lus, ou {@code -1} s'il n'y en a plus.
+     * @throws IOException si la lecture échoue.
+     */
+    private int lireOctets() throws IOException {
+        if( null == fichier ) {
+            return canal.read( tampon );
+        }
+
+        long reste = fin - position;
+
+        if( reste <= 0 ) {
+            return -1;
+        }
+
+        int limite = tampon.limit();
+
+        if( reste < tampon.remaining() ) {
+            tampon.limit( tampon.position() + (int) reste );
+        }
+
+        int resultat = fichier.read( tampon, position );
+        tampon.limit( limite );
+
+        if( resultat > 0 ) {
+            position += resultat;
+        }
+
+        return resultat;
+    }
+}
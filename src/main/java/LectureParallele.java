@@ -0,0 +1,189 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Lit un fichier de syllabes en plusieurs morceaux traités en parallèle.
+ *
+ * Le fichier est découpé en plages d'octets et chaque frontière est déplacée juste après le prochain
+ * {@code TexteSonore.SEPARATEUR}.  Ce caractère est un seul octet en utf-8 et ne peut pas faire partie d'une
+ * syllabe, donc la lecture séquentielle est toujours au début d'une syllabe à cette position, ou s'est déjà arrêtée.
+ * Les morceaux sont projetés en mémoire et lus par un {@code ForkJoinPool}, puis concaténés dans l'ordre.  Dès
+ * qu'un morceau a été interrompu par un caractère invalide, les morceaux suivants sont ignorés, comme le ferait la
+ * lecture séquentielle.
+ *
+ * @see LecteurSyllabes
+ * @see TexteSonore
+ */
+public class LectureParallele {
+    /**
+     * La taille minimale d'un morceau, en octets.  Un fichier plus petit est lu en un seul morceau.
+     */
+    public static final long TAILLE_MIN_MORCEAU = 1 << 20;
+
+    /**
+     * Le nombre de morceaux créés pour chaque fil d'exécution du {@code ForkJoinPool}, afin de répartir la charge.
+     */
+    private static final int MORCEAUX_PAR_FIL = 4;
+
+    /**
+     * L'octet utilisé pour placer les frontières entre les morceaux.
+     */
+    private static final byte OCTET_SEPARATEUR = (byte) TexteSonore.SEPARATEUR.charAt( 0 );
+
+    /**
+     * La taille du tampon utilisé pour chercher les frontières.
+     */
+    private static final int TAILLE_TAMPON_FRONTIERE = 1 << 12;
+
+
+    /**
+     * Le résultat de la lecture d'un morceau.
+     */
+    private static class Morceau {
+        /**
+         * Les syllabes lues dans le morceau.
+         */
+        final List< SyllabeFrancais > syllabes = new ArrayList<>();
+
+        /**
+         * Indique que la lecture du morceau s'est arrêtée sur un caractère invalide.
+         */
+        boolean interrompu;
+    }
+
+
+    /**
+     * Tâche qui lit un morceau du fichier.
+     */
+    private static class TacheMorceau extends RecursiveTask< Morceau > {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel fichier;
+        private final long debut;
+        private final long fin;
+
+        TacheMorceau( FileChannel fichier, long debut, long fin ) {
+            this.fichier = fichier;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected Morceau compute() {
+            Morceau resultat = new Morceau();
+
+            try {
+                LecteurSyllabes lecteur = LecteurSyllabes.projeter( fichier, debut, fin );
+                SyllabeFrancais syllabe = lecteur.lireSyllabe();
+
+                while( null != syllabe ) {
+                    resultat.syllabes.add( syllabe );
+                    syllabe = lecteur.lireSyllabe();
+                }
+                resultat.interrompu = lecteur.estInterrompu();
+            } catch( IOException e ) {
+                throw new UncheckedIOException( e );
+            }
+
+            return resultat;
+        }
+    }
+
+
+    /**
+     * Lit tout le fichier en parallèle et ajoute les syllabes lues à la fin d'un texte.
+     *
+     * @param fichier le fichier contenant le texte encodé en utf-8.  N'est pas fermé.
+     * @param pool le {@code ForkJoinPool} qui exécute la lecture des morceaux.
+     * @param texte le texte qui reçoit les syllabes, dans l'ordre du fichier.
+     * @throws IOException si la lecture du fichier échoue.
+     */
+    public static void lire( FileChannel fichier, ForkJoinPool pool, TexteSonore texte ) throws IOException {
+        long[] frontieres = calculerFrontieres( fichier, pool.getParallelism() * MORCEAUX_PAR_FIL );
+        List< TacheMorceau > taches = new ArrayList<>();
+
+        for( int i = 0; i + 1 < frontieres.length; ++i ) {
+            taches.add( new TacheMorceau( fichier, frontieres[ i ], frontieres[ i + 1 ] ) );
+        }
+        taches.forEach( pool::execute );
+
+        boolean interrompu = false;
+
+        try {
+            for( TacheMorceau tache : taches ) {
+                if( interrompu ) {
+                    tache.cancel( false );
+                } else {
+                    Morceau morceau = tache.join();
+                    texte.addAll( morceau.syllabes );
+                    interrompu = morceau.interrompu;
+                }
+            }
+        } catch( UncheckedIOException e ) {
+            taches.forEach( tache -> tache.cancel( false ) );
+            throw e.getCause();
+        }
+    }
+
+
+    /**
+     * Découpe le fichier en plages d'octets qui commencent toutes au début d'une syllabe.
+     *
+     * @param fichier le fichier à découper.
+     * @param nombreMaximal le nombre maximal de morceaux.
+     * @return les positions des frontières, en ordre croissant, de {@code 0} à la taille du fichier.
+     * @throws IOException si la lecture du fichier échoue.
+     */
+    private static long[] calculerFrontieres( FileChannel fichier, int nombreMaximal ) throws IOException {
+        long taille = fichier.size();
+        int nombre = (int) Math.max( 1, Math.min( nombreMaximal, taille / TAILLE_MIN_MORCEAU ) );
+        long[] resultat = new long[ nombre + 1 ];
+
+        resultat[ nombre ] = taille;
+        for( int i = 1; i < nombre; ++i ) {
+            long depart = Math.max( resultat[ i - 1 ], taille / nombre * i );
+            resultat[ i ] = chercherApresSeparateur( fichier, depart, taille );
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Cherche la position qui suit le prochain séparateur.
+     *
+     * @param fichier le fichier dans lequel chercher.
+     * @param depart la position où la recherche commence.
+     * @param taille la taille du fichier.
+     * @return la position qui suit le premier séparateur trouvé, ou {@code taille} s'il n'y en a pas.
+     * @throws IOException si la lecture du fichier échoue.
+     */
+    private static long chercherApresSeparateur( FileChannel fichier, long depart, long taille ) throws IOException {
+        ByteBuffer tampon = ByteBuffer.allocate( TAILLE_TAMPON_FRONTIERE );
+        long position = depart;
+
+        while( position < taille ) {
+            tampon.clear();
+            int lus = fichier.read( tampon, position );
+
+            if( lus <= 0 ) {
+                break;
+            }
+            for( int i = 0; i < lus; ++i ) {
+                if( OCTET_SEPARATEUR == tampon.get( i ) ) {
+                    return position + i + 1;
+                }
+            }
+            position += lus;
+        }
+
+        return taille;
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.Arrays;
+
+
+/**
+ * Une liste d'entiers conservés dans un tableau de {@code int}, sans objet pour chaque valeur.
+ *
+ * Utilisée entre autres pour conserver les positions des occurrences d'une syllabe dans un {@code TexteSonore}.
+ *
+ * @see TexteSonore
+ */
+public class ListeEntiers {
+    /**
+     * La capacité initiale du tableau.
+     */
+    private static final int CAPACITE_INITIALE = 4;
+
+    /**
+     * Les valeurs de la liste.  Seules les {@code taille} premières cases sont utilisées.
+     */
+    private int[] valeurs = new int[ CAPACITE_INITIALE ];
+
+    /**
+     * Le nombre de valeurs dans la liste.
+     */
+    private int taille = 0;
+
+
+    /**
+     * Ajoute une valeur à la fin de la liste.
+     *
+     * @param valeur la valeur à ajouter.
+     */
+    public void ajouter( int valeur ) {
+        if( taille == valeurs.length ) {
+            valeurs = Arrays.copyOf( valeurs, 2 * taille );
+        }
+        valeurs[ taille++ ] = valeur;
+    }
+
+
+    /**
+     * Ajoute toutes les valeurs d'une autre liste à la fin de la liste.
+     *
+     * @param autre la liste dont les valeurs sont ajoutées.  N'est pas modifiée.
+     */
+    public void ajouterTout( ListeEntiers autre ) {
+        if( taille + autre.taille > valeurs.length ) {
+            valeurs = Arrays.copyOf( valeurs, Math.max( 2 * valeurs.length, taille + autre.taille ) );
+        }
+        System.arraycopy( autre.valeurs, 0, valeurs, taille, autre.taille );
+        taille += autre.taille;
+    }
+
+
+    /**
+     * Retourne une valeur de la liste.
+     *
+     * @param position la position de la valeur, entre {@code 0} et {@code taille() - 1}.
+     * @return la valeur.
+     */
+    public int get( int position ) {
+        return valeurs[ position ];
+    }
+
+
+    /**
+     * Retourne le nombre de valeurs dans la liste.
+     *
+     * @return le nombre de valeurs.
+     */
+    public int taille() {
+        return taille;
+    }
+
+
+    /**
+     * Retire toutes les valeurs de la liste.
+     */
+    public void vider() {
+        taille = 0;
+    }
+}
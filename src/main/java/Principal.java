@@ -1,6 +1,11 @@
 import org.w3c.dom.Text;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Écrivez vos nom ici :
@@ -51,27 +56,368 @@ public class Principal {
     }
 
 
+    /**
+     * Charge la suite de syllabes contenue dans un fichier.
+     *
+     * Un fichier dans le format binaire de {@code FormatBinaire} est reconnu par son entête.  Les fichiers texte d'au
+     * moins {@code Constantes.TAILLE_LECTURE_PARALLELE} octets sont lus en parallèle dans le {@code ForkJoinPool}
+     * commun.
+     *
+     * @see FormatBinaire
+     * @see Constantes
+     * @param nomFichier le nom du fichier à lire.
+     * @return la suite de syllabes lue.
+     */
+    public static TexteSonore chargerTexte( String nomFichier ) {
+        return chargerTexte( nomFichier, null );
+    }
+
+
+    /**
+     * Charge la suite de syllabes contenue dans un fichier.
+     *
+     * Un fichier dans le format binaire de {@code FormatBinaire} est reconnu par son entête.  Les fichiers texte d'au
+     * moins {@code Constantes.TAILLE_LECTURE_PARALLELE} octets sont lus en parallèle si le pool a plus d'un fil
+     * d'exécution.  Avec un seul fil, découper le fichier en morceaux n'apporte rien : il est plutôt projeté en
+     * mémoire et décodé d'un bout à l'autre, sans être copié sur le tas.
+     *
+     * @see FormatBinaire
+     * @see Constantes
+     * @param nomFichier le nom du fichier à lire.
+     * @param pool le {@code ForkJoinPool} utilisé pour lire les gros fichiers, ou {@code null} pour le pool commun.
+     * @return la suite de syllabes lue.
+     */
+    public static TexteSonore chargerTexte( String nomFichier, ForkJoinPool pool ) {
+        ForkJoinPool lecteurs = null == pool ? ForkJoinPool.commonPool() : pool;
+        TexteSonore resultat;
+
+        if( FormatBinaire.estBinaire( Path.of( nomFichier ) ) ) {
+            resultat = TexteSonore.lireBinaire( nomFichier );
+        } else if( new File( nomFichier ).length() < Constantes.TAILLE_LECTURE_PARALLELE ) {
+            resultat = new TexteSonore( nomFichier );
+        } else if( lecteurs.getParallelism() > 1 ) {
+            resultat = TexteSonore.lireEnParallele( nomFichier, lecteurs );
+        } else {
+            resultat = TexteSonore.lireProjete( nomFichier );
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Affiche une suite de syllabes sur la sortie standard, suivie d'une fin de ligne.
+     *
+     * Le texte est encodé en utf-8 et écrit au fur et à mesure, sans être construit au complet en mémoire.
+     *
+     * @param texteSonore la suite de syllabes à afficher.
+     */
+    public static void afficherTexte( TexteSonore texteSonore ) {
+        System.out.flush();
+
+        try {
+            texteSonore.ecrire( Channels.newChannel( System.out ) );
+        } catch( IOException e ) {
+            Erreur.ECRITURE_FICHIER.lancer( e.getMessage() );
+        }
+
+        System.out.println();
+    }
+
+
+    /**
+     * Réduit le nombre de syllabes différentes d'un texte avec une des réductions exactes.
+     *
+     * Les modes {@code Constantes.MODE_LOTS} et {@code Constantes.MODE_APPROXIMATIF} ont leurs propres options et
+     * sont faits par {@code reduireParLots} et {@code reduireApproximativement}.
+     *
+     * @see Constantes
+     * @param texteSonore le texte à réduire.
+     * @param nombreDeSyllabes le nombre de syllabes différentes à atteindre.
+     * @param mode {@code Constantes.MODE_DIFFERE}, {@code Constantes.MODE_AGGLOMERATIF}, ou un autre mode pour la
+     *             réduction directe de {@code Constantes.MODE_DIRECT}.
+     * @param pool le {@code ForkJoinPool} utilisé pour chercher les paires, ou {@code null} pour une recherche
+     *             séquentielle.
+     */
+    public static void reduire( TexteSonore texteSonore, int nombreDeSyllabes, String mode, ForkJoinPool pool ) {
+        if( Constantes.MODE_DIFFERE.equals( mode ) || Constantes.MODE_AGGLOMERATIF.equals( mode ) ) {
+            Reduction reduction = Constantes.MODE_DIFFERE.equals( mode )
+                    ? new Reduction( texteSonore )
+                    : new ReductionAgglomerative( texteSonore );
+
+            reduction.setPool( pool );
+            reduction.reduire( nombreDeSyllabes );
+            reduction.appliquer();
+        } else {
+            while (texteSonore.calculerNombreDeSons() > nombreDeSyllabes) {
+                texteSonore.remplacerSyllabe(texteSonore.trierSyllabeParOccurence(
+                        texteSonore.trouverSyllabeForteFaible(pool)));
+            }
+        }
+    }
+
+
+    /**
+     * Réduit le nombre de syllabes différentes d'un texte avec {@code ReductionParLots}, puis affiche sur le canal
+     * d'erreur le nombre de tours, le nombre de fusions et la somme de leurs distances.
+     *
+     * Si la réduction est vérifiée, la réduction exacte est aussi faite sur une copie du texte, et son total des
+     * distances et le nombre de syllabes du texte qui ne sont pas celles de la réduction exacte sont aussi affichés.
+     *
+     * @see ReductionParLots
+     * @param texteSonore le texte à réduire.
+     * @param nombreDeSyllabes le nombre de syllabes différentes à atteindre.
+     * @param tolerance l'écart de distance accepté au-dessus du minimum de chaque tour.
+     * @param verification {@code true} pour comparer le résultat à la réduction exacte.
+     * @param pool le {@code ForkJoinPool} utilisé pour chercher les paires, ou {@code null} pour une recherche
+     *             séquentielle.
+     */
+    public static void reduireParLots( TexteSonore texteSonore, int nombreDeSyllabes, int tolerance,
+                                       boolean verification, ForkJoinPool pool ) {
+        TexteSonore texteExact = verification ? texteSonore.clone() : null;
+        ReductionParLots reduction = new ReductionParLots( texteSonore, tolerance );
+
+        reduction.setPool( pool );
+        reduction.reduire( nombreDeSyllabes );
+        reduction.appliquer();
+
+        System.err.println( String.format( Textes.MSSG_RAPPORT_LOTS, reduction.getNombreDeTours(),
+                reduction.getFusions().size(), calculerDistanceTotale( reduction ) ) );
+
+        if( verification ) {
+            Reduction exacte = new ReductionAgglomerative( texteExact );
+
+            exacte.setPool( pool );
+            exacte.reduire( nombreDeSyllabes );
+            exacte.appliquer();
+
+            System.err.println( String.format( Textes.MSSG_RAPPORT_LOTS_EXACT, calculerDistanceTotale( exacte ),
+                    ReductionParLots.compterDifferences( texteSonore, texteExact ), texteSonore.size() ) );
+        }
+    }
+
+
+    /**
+     * Réduit le nombre de syllabes différentes d'un texte avec {@code ReductionApproximative}, puis affiche sur le
+     * canal d'erreur le nombre de recherches, le nombre de reconstructions des tables et, si les recherches sont
+     * vérifiées, le nombre de fois où la paire la plus proche a été manquée.
+     *
+     * @see ReductionApproximative
+     * @param texteSonore le texte à réduire.
+     * @param nombreDeSyllabes le nombre de syllabes différentes à atteindre.
+     * @param tables le nombre de tables de hachage.
+     * @param bits le nombre de bits gardés par chaque table.
+     * @param verification {@code true} pour comparer chaque recherche à la recherche exacte.
+     * @param pool le {@code ForkJoinPool} utilisé pour les recherches exactes de la vérification, ou {@code null}
+     *             pour une recherche séquentielle.
+     */
+    public static void reduireApproximativement( TexteSonore texteSonore, int nombreDeSyllabes, int tables, int bits,
+                                                 boolean verification, ForkJoinPool pool ) {
+        ReductionApproximative reduction = new ReductionApproximative( texteSonore, tables, bits );
+
+        reduction.setPool( pool );
+        reduction.setVerification( verification );
+        reduction.reduire( nombreDeSyllabes );
+        reduction.appliquer();
+
+        System.err.println( String.format( Textes.MSSG_RAPPORT_APPROXIMATIF, reduction.getNombreDeRecherches(),
+                reduction.getNombreDeReconstructions(), reduction.getNombreDeManques(), reduction.getNombreDeVerifications() ) );
+    }
+
+
+    /**
+     * Calcule la somme des distances des fusions d'une réduction.
+     *
+     * @param reduction la réduction.
+     * @return la somme des distances.
+     */
+    public static int calculerDistanceTotale( Reduction reduction ) {
+        int resultat = 0;
+
+        for( Reduction.Fusion fusion : reduction.getFusions() ) {
+            resultat += fusion.distance;
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Lit l'écart de distance d'une option {@code Constantes.OPTION_TOLERANCE}.
+     *
+     * @param option l'option complète.
+     * @return l'écart, au moins {@code 0}.
+     */
+    public static int lireTolerance( String option ) {
+        return lireEntier( option, Constantes.OPTION_TOLERANCE, 0 );
+    }
+
+
+    /**
+     * Lit la valeur entière d'une option de la ligne de commande.
+     *
+     * @param option l'option complète.
+     * @param prefixe le nom de l'option, qui précède la valeur.
+     * @param minimum la plus petite valeur acceptée.
+     * @return la valeur, au moins {@code minimum}.
+     */
+    public static int lireEntier( String option, String prefixe, int minimum ) {
+        int resultat = minimum - 1;
+
+        try {
+            resultat = Integer.parseInt( option.substring( prefixe.length() ) );
+        } catch( NumberFormatException e ) {
+        }
+
+        if( resultat < minimum ) {
+            Erreur.OPTION_INVALIDE.lancer( "\"" + option + "\"" );
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Construit le dendrogramme de toutes les fusions d'un texte.
+     *
+     * Le mode {@code Constantes.MODE_DIFFERE} utilise {@code Reduction}, les autres modes
+     * {@code ReductionAgglomerative}, puisque le mode direct ne garde pas ses fusions.
+     *
+     * @see Dendrogramme
+     * @param texteSonore le texte à réduire.  N'est pas modifié.
+     * @param mode un des modes de réduction de {@code Constantes}.
+     * @param pool le {@code ForkJoinPool} utilisé pour chercher les paires, ou {@code null} pour une recherche
+     *             séquentielle.
+     * @return le dendrogramme du texte.
+     */
+    public static Dendrogramme construireDendrogramme( TexteSonore texteSonore, String mode, ForkJoinPool pool ) {
+        Reduction reduction = Constantes.MODE_DIFFERE.equals( mode )
+                ? new Reduction( texteSonore )
+                : new ReductionAgglomerative( texteSonore );
+
+        reduction.setPool( pool );
+
+        return new Dendrogramme( reduction );
+    }
+
+
+    /**
+     * Lit les nombres de syllabes d'une option {@code Constantes.OPTION_CIBLES}.
+     *
+     * @param option l'option complète.
+     * @return les nombres de syllabes, dans l'ordre de l'option.
+     */
+    public static int[] lireCibles( String option ) {
+        String[] valeurs =
+                option.substring( Constantes.OPTION_CIBLES.length() ).split( Constantes.SEPARATEUR_CIBLES );
+        int[] resultat = new int[ valeurs.length ];
+
+        for( int i = 0; i < valeurs.length; ++i ) {
+            try {
+                resultat[ i ] = Integer.parseInt( valeurs[ i ].trim() );
+            } catch( NumberFormatException e ) {
+                Erreur.OPTION_INVALIDE.lancer( "\"" + option + "\"" );
+            }
+
+            if( resultat[ i ] < Constantes.MIN_NOMBRE_SYLLABE ) {
+                Erreur.NOMBRE_SYLLABE.lancer( "  Valeur entrée : " + resultat[ i ] );
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Lit le nombre de fils d'exécution d'une option {@code Constantes.OPTION_FILS}.
+     *
+     * @param option l'option complète.
+     * @return le nombre de fils, au moins {@code 1}.
+     */
+    public static int lireNombreDeFils( String option ) {
+        return lireEntier( option, Constantes.OPTION_FILS, 1 );
+    }
+
+
     /**
      * Programme principal de l'application
      *
+     * L'option {@code Constantes.OPTION_BINAIRE} suivie d'un nom de fichier écrit le texte lu dans ce fichier, en
+     * format binaire, avant de faire la réduction.  L'option {@code Constantes.OPTION_MODE} choisit le mode de
+     * réduction et l'option {@code Constantes.OPTION_FILS} le nombre de fils d'exécution de la lecture des gros
+     * fichiers et de la recherche des paires.
+     * L'option {@code Constantes.OPTION_TOLERANCE} règle le mode {@code Constantes.MODE_LOTS}, et les options
+     * {@code Constantes.OPTION_TABLES} et {@code Constantes.OPTION_BITS} le mode {@code Constantes.MODE_APPROXIMATIF}.
+     * L'option {@code Constantes.OPTION_VERIFIER} compare ces deux modes à la réduction exacte.
+     * L'option {@code Constantes.OPTION_CIBLES} remplace le nombre de syllabes demandé par plusieurs cibles.
+     *
      * @param args Les paramètres externe de l'application.
      */
     public static void main( String [] args ) {
+        String fichierBinaire = null;
+        String mode = Constantes.MODE_DIRECT;
+        ForkJoinPool pool = null;
+        int[] cibles = null;
+        int tolerance = Constantes.TOLERANCE_DEFAUT;
+        int tables = Constantes.TABLES_DEFAUT;
+        int bits = Constantes.BITS_DEFAUT;
+        boolean verification = false;
+
+        for( String option : args ) {
+            if( option.startsWith( Constantes.OPTION_BINAIRE ) ) {
+                fichierBinaire = option.substring( Constantes.OPTION_BINAIRE.length() );
+            } else if( option.startsWith( Constantes.OPTION_MODE )
+                    && Constantes.MODES.contains( option.substring( Constantes.OPTION_MODE.length() ) ) ) {
+                mode = option.substring( Constantes.OPTION_MODE.length() );
+            } else if( option.startsWith( Constantes.OPTION_FILS ) ) {
+                pool = new ForkJoinPool( lireNombreDeFils( option ) );
+            } else if( option.startsWith( Constantes.OPTION_TOLERANCE ) ) {
+                tolerance = lireTolerance( option );
+            } else if( option.startsWith( Constantes.OPTION_TABLES ) ) {
+                tables = lireEntier( option, Constantes.OPTION_TABLES, 1 );
+            } else if( option.startsWith( Constantes.OPTION_BITS ) ) {
+                bits = Math.min( lireEntier( option, Constantes.OPTION_BITS, 1 ), SyllabeFrancais.LONGUEUR_VECTEUR );
+            } else if( option.equals( Constantes.OPTION_VERIFIER ) ) {
+                verification = true;
+            } else if( option.startsWith( Constantes.OPTION_CIBLES ) ) {
+                cibles = lireCibles( option );
+            } else {
+                Erreur.OPTION_INVALIDE.lancer( "\"" + option + "\"" );
+            }
+        }
+
         // cette partie du code lie les entrées.
         Scanner scanner = new Scanner( System.in );
         String nomFichier = demanderNomFichier( scanner );
-        int nombreDeSyllabes = demanderNombreDeSyllabe( scanner );
+        int nombreDeSyllabes = null == cibles ? demanderNombreDeSyllabe( scanner ) : 0;
 
         scanner.close();
 
-        TexteSonore texteSonore = new TexteSonore( nomFichier );
+        TexteSonore texteSonore = chargerTexte( nomFichier, pool );
 
-        while (texteSonore.calculerNombreDeSons() > nombreDeSyllabes) {
-            texteSonore.remplacerSyllabe(texteSonore.trierSyllabeParOccurence(texteSonore.trouverSyllabeForteFaible()));
+        if( null != fichierBinaire ) {
+            texteSonore.ecrireBinaire( fichierBinaire );
         }
 
-        // cette partie du code affiche les résultats, modifier au besoin.
-        System.out.println( texteSonore );
-        System.out.println( nombreDeSyllabes );
+        if( null == cibles ) {
+            if( Constantes.MODE_LOTS.equals( mode ) ) {
+                reduireParLots( texteSonore, nombreDeSyllabes, tolerance, verification, pool );
+            } else if( Constantes.MODE_APPROXIMATIF.equals( mode ) ) {
+                reduireApproximativement( texteSonore, nombreDeSyllabes, tables, bits, verification, pool );
+            } else {
+                reduire( texteSonore, nombreDeSyllabes, mode, pool );
+            }
+
+            // cette partie du code affiche les résultats, modifier au besoin.
+            afficherTexte( texteSonore );
+            System.out.println( nombreDeSyllabes );
+        } else {
+            Dendrogramme dendrogramme = construireDendrogramme( texteSonore, mode, pool );
+
+            for( int cible : cibles ) {
+                afficherTexte( dendrogramme.materialiser( cible ) );
+                System.out.println( cible );
+            }
+        }
     }
 }
@@ -0,0 +1,230 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Cherche la paire de syllabes distinctes ayant la plus petite distance.
+ *
+ * Les syllabes sont données dans l'ordre de leur première occurrence dans un texte.  Parmi les paires ayant la plus
+ * petite distance, la paire retenue est la première trouvée en parcourant les paires {@code (i, j)}, {@code i < j},
+ * dans l'ordre lexicographique.  C'est la même paire que celle trouvée en parcourant toutes les paires de positions
+ * du texte, puisque la première paire de positions de deux syllabes est formée de leurs premières occurrences.
+ *
+ * La recherche peut aussi être faite en parallèle : les lignes {@code i} du triangle des paires sont réparties
+ * entre les tâches d'un {@code ForkJoinPool}, puis les meilleures paires des tâches sont comparées selon la clé
+ * (distance, {@code i}, {@code j}).  Le résultat est donc exactement celui de la recherche séquentielle.
+ *
+ * @see TexteSonore
+ * @see Reduction
+ */
+public final class RecherchePaireProche {
+    /**
+     * Position de la première syllabe dans le résultat de {@code trouver}.
+     */
+    public static final int PREMIERE = 0;
+
+    /**
+     * Position de la seconde syllabe dans le résultat de {@code trouver}.
+     */
+    public static final int SECONDE = 1;
+
+    /**
+     * Position de la distance dans le résultat de {@code trouver}.
+     */
+    public static final int DISTANCE = 2;
+
+    /**
+     * Le nombre de paires en dessous duquel une tâche parallèle n'est plus divisée.
+     */
+    private static final long SEUIL_PAIRES = 1 << 15;
+
+
+    /**
+     * Tâche qui cherche la meilleure paire dont la première syllabe est dans une plage de lignes.
+     */
+    private static class TacheLignes extends RecursiveTask< int[] > {
+        private static final long serialVersionUID = 1L;
+
+        private final SyllabeFrancais[] syllabes;
+        private final int nombre;
+        private final int debut;
+        private final int fin;
+
+        TacheLignes( SyllabeFrancais[] syllabes, int nombre, int debut, int fin ) {
+            this.syllabes = syllabes;
+            this.nombre = nombre;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected int[] compute() {
+            int[] resultat;
+
+            if( fin - debut < 2 || compterPaires( nombre, debut, fin ) <= SEUIL_PAIRES ) {
+                resultat = trouverLignes( syllabes, nombre, debut, fin );
+            } else {
+                int milieu = diviser( nombre, debut, fin );
+                TacheLignes gauche = new TacheLignes( syllabes, nombre, debut, milieu );
+
+                gauche.fork();
+                int[] droite = new TacheLignes( syllabes, nombre, milieu, fin ).compute();
+                resultat = choisir( gauche.join(), droite );
+            }
+
+            return resultat;
+        }
+    }
+
+
+    private RecherchePaireProche() {}
+
+
+    /**
+     * Cherche la paire de syllabes ayant la plus petite distance, plus petite que
+     * {@code TexteSonore.DISTANCE_MINIMALE}.
+     *
+     * @param syllabes des syllabes distinctes, dans l'ordre de leur première occurrence.
+     * @param nombre le nombre de syllabes à considérer au début de {@code syllabes}.
+     * @return un tableau contenant, aux positions {@code PREMIERE} et {@code SECONDE}, les indices des deux
+     * syllabes, puis leur distance à la position {@code DISTANCE}.  Si aucune paire n'est trouvée, les indices sont
+     * {@code 0} et {@code 1} et la distance est {@code TexteSonore.DISTANCE_MINIMALE}.
+     */
+    public static int[] trouver( SyllabeFrancais[] syllabes, int nombre ) {
+        return trouverLignes( syllabes, nombre, 0, nombre );
+    }
+
+
+    /**
+     * Cherche en parallèle la paire de syllabes ayant la plus petite distance.  Le résultat est le même que celui
+     * de {@code trouver( syllabes, nombre )}.
+     *
+     * @param syllabes des syllabes distinctes, dans l'ordre de leur première occurrence.
+     * @param nombre le nombre de syllabes à considérer au début de {@code syllabes}.
+     * @param pool le {@code ForkJoinPool} qui exécute la recherche.
+     * @return la paire trouvée, comme pour {@code trouver( syllabes, nombre )}.
+     */
+    public static int[] trouver( SyllabeFrancais[] syllabes, int nombre, ForkJoinPool pool ) {
+        return pool.invoke( new TacheLignes( syllabes, nombre, 0, nombre ) );
+    }
+
+
+    /**
+     * Cherche la meilleure paire dont la première syllabe est dans une plage de lignes.
+     *
+     * Les colonnes sont rangées dans un {@code VocabulaireCompact}, regroupées selon leur forme
+     * ({@code SyllabeFrancais.calculerForme}).  Pour chaque ligne, un groupe n'est parcouru que si la borne de distance
+     * entre les deux formes permet encore de trouver une meilleure paire, et les distances de la ligne au groupe sont
+     * calculées d'un seul coup par {@code VocabulaireCompact.calculerDistances}.  Comme les groupes ne sont pas
+     * parcourus dans l'ordre des colonnes, une paire aussi proche que la meilleure la remplace si elle est sur la même
+     * ligne et dans une colonne plus petite.
+     *
+     * @param syllabes des syllabes distinctes, dans l'ordre de leur première occurrence.
+     * @param nombre le nombre de syllabes à considérer au début de {@code syllabes}.
+     * @param debut la première ligne.
+     * @param fin la ligne qui suit la dernière ligne.
+     * @return la paire trouvée, comme pour {@code trouver}.
+     */
+    private static int[] trouverLignes( SyllabeFrancais[] syllabes, int nombre, int debut, int fin ) {
+        int[] resultat = new int[]{ 0, 1, TexteSonore.DISTANCE_MINIMALE };
+        VocabulaireCompact colonnes = new VocabulaireCompact( syllabes, debut + 1, nombre );
+        int[] distances = new int[ colonnes.taille() ];
+        int[] curseurs = new int[ SyllabeFrancais.NOMBRE_FORMES ];
+
+        for( int autre = 0; autre < SyllabeFrancais.NOMBRE_FORMES; ++autre ) {
+            curseurs[ autre ] = colonnes.getDebut( autre );
+        }
+        for( int i = debut; i < fin; ++i ) {
+            SyllabeFrancais syllabe = syllabes[ i ];
+            int forme = syllabe.calculerForme();
+
+            for( int autre = 0; autre < SyllabeFrancais.NOMBRE_FORMES; ++autre ) {
+                int finGroupe = colonnes.getFin( autre );
+
+                while( curseurs[ autre ] < finGroupe && colonnes.getIndice( curseurs[ autre ] ) <= i ) {
+                    ++curseurs[ autre ];
+                }
+
+                int egalite = i == resultat[ PREMIERE ] ? 1 : 0;
+
+                if( curseurs[ autre ] < finGroupe
+                        && SyllabeFrancais.calculerBorneDistance( forme, autre ) < resultat[ DISTANCE ] + egalite ) {
+                    colonnes.calculerDistances( syllabe, curseurs[ autre ], finGroupe, distances );
+                    for( int k = curseurs[ autre ]; k < finGroupe; ++k ) {
+                        int j = colonnes.getIndice( k );
+
+                        if( distances[ k ] < resultat[ DISTANCE ] || ( distances[ k ] == resultat[ DISTANCE ]
+                                && i == resultat[ PREMIERE ] && j < resultat[ SECONDE ] ) ) {
+                            resultat[ PREMIERE ] = i;
+                            resultat[ SECONDE ] = j;
+                            resultat[ DISTANCE ] = distances[ k ];
+                        }
+                    }
+                }
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Choisit la meilleure de deux paires selon la clé (distance, {@code i}, {@code j}).
+     *
+     * @param a une paire.
+     * @param b une autre paire.
+     * @return la paire ayant la plus petite clé.
+     */
+    private static int[] choisir( int[] a, int[] b ) {
+        int resultat = Integer.compare( a[ DISTANCE ], b[ DISTANCE ] );
+
+        if( 0 == resultat ) {
+            resultat = Integer.compare( a[ PREMIERE ], b[ PREMIERE ] );
+        }
+        if( 0 == resultat ) {
+            resultat = Integer.compare( a[ SECONDE ], b[ SECONDE ] );
+        }
+
+        return resultat <= 0 ? a : b;
+    }
+
+
+    /**
+     * Compte les paires dont la première syllabe est dans une plage de lignes.
+     *
+     * @param nombre le nombre de syllabes.
+     * @param debut la première ligne.
+     * @param fin la ligne qui suit la dernière ligne.
+     * @return le nombre de paires.
+     */
+    private static long compterPaires( int nombre, int debut, int fin ) {
+        return ( (long) ( 2 * nombre - debut - fin - 1 ) * ( fin - debut ) ) / 2;
+    }
+
+
+    /**
+     * Trouve la ligne qui partage une plage de lignes en deux parties ayant à peu près le même nombre de paires.
+     *
+     * @param nombre le nombre de syllabes.
+     * @param debut la première ligne.
+     * @param fin la ligne qui suit la dernière ligne.  Au moins deux lignes plus loin que {@code debut}.
+     * @return une ligne strictement entre {@code debut} et {@code fin}.
+     */
+    private static int diviser( int nombre, int debut, int fin ) {
+        long moitie = compterPaires( nombre, debut, fin ) / 2;
+        int bas = debut + 1;
+        int haut = fin - 1;
+
+        while( bas < haut ) {
+            int milieu = ( bas + haut ) >>> 1;
+
+            if( compterPaires( nombre, debut, milieu ) < moitie ) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+
+        return bas;
+    }
+}
@@ -0,0 +1,311 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Réduit le nombre de syllabes différentes d'un texte sans le réécrire à chaque fusion.
+ *
+ * Chaque étape fait le même choix que la boucle de {@code Principal} sur un {@code TexteSonore} :
+ * {@code trouverSyllabeForteFaible}, puis {@code trierSyllabeParOccurence}, puis {@code remplacerSyllabe}.  Les
+ * fusions sont seulement notées dans des {@code EnsemblesDisjoints} sur le vocabulaire du texte, et le texte est
+ * réécrit une seule fois, par {@code appliquer}.
+ *
+ * Les syllabes encore présentes sont gardées dans l'ordre de leur première occurrence dans le texte réduit.  La
+ * syllabe qui survit à une fusion prend la première occurrence de la syllabe absorbée si elle est plus tôt, ce qui
+ * permet de retrouver la même paire que la recherche sur les positions du texte.
+ *
+ * @see TexteSonore
+ * @see EnsemblesDisjoints
+ */
+public class Reduction {
+    /**
+     * Une fusion faite pendant la réduction.
+     */
+    public static class Fusion {
+        /**
+         * La syllabe qui remplace l'autre.
+         */
+        public final SyllabeFrancais survivante;
+
+        /**
+         * La syllabe remplacée.
+         */
+        public final SyllabeFrancais absorbee;
+
+        /**
+         * La distance entre les deux syllabes.
+         */
+        public final int distance;
+
+        /**
+         * Le nombre de syllabes différentes après la fusion.
+         */
+        public final int nombreDeSons;
+
+
+        /**
+         * Construit une fusion.
+         *
+         * @param survivante la syllabe qui remplace l'autre.
+         * @param absorbee la syllabe remplacée.
+         * @param distance la distance entre les deux syllabes.
+         * @param nombreDeSons le nombre de syllabes différentes après la fusion.
+         */
+        public Fusion( SyllabeFrancais survivante, SyllabeFrancais absorbee, int distance, int nombreDeSons ) {
+            this.survivante = survivante;
+            this.absorbee = absorbee;
+            this.distance = distance;
+            this.nombreDeSons = nombreDeSons;
+        }
+
+
+        /**
+         * Construit une chaîne de caractères qui décrit la fusion.
+         *
+         * @return la syllabe absorbée, la syllabe survivante et leur distance.
+         */
+        @Override
+        public String toString() {
+            return absorbee + " -> " + survivante + " (" + distance + ")";
+        }
+    }
+
+
+    /**
+     * Le texte à réduire.  N'est modifié que par {@code appliquer}.
+     */
+    protected final TexteSonore texte;
+
+    /**
+     * Les syllabes distinctes du texte, dans l'ordre de leur première occurrence.
+     */
+    protected final SyllabeFrancais[] vocabulaire;
+
+    /**
+     * Le nombre d'occurrences de chaque ensemble, conservé à l'indice de son représentant.
+     */
+    protected final int[] occurrences;
+
+    /**
+     * Les ensembles de syllabes fusionnées.  Le représentant d'un ensemble est la syllabe qui les remplace toutes.
+     */
+    protected final EnsemblesDisjoints ensembles;
+
+    /**
+     * Les représentants encore présents, dans l'ordre de leur première occurrence dans le texte réduit.  Seules
+     * les {@code nombreDeSons} premières cases sont utilisées.
+     */
+    protected final int[] vivants;
+
+    /**
+     * Les syllabes des représentants de {@code vivants}, aux mêmes positions.
+     */
+    protected final SyllabeFrancais[] syllabesVivantes;
+
+    /**
+     * Le rang de chaque représentant : l'indice dans {@code vocabulaire} de la première occurrence de son ensemble.
+     * {@code vivants} est en ordre croissant de rang.
+     */
+    protected final int[] rangs;
+
+    /**
+     * Le nombre de syllabes différentes dans le texte réduit.
+     */
+    protected int nombreDeSons;
+
+    /**
+     * Les fusions faites, dans l'ordre.
+     */
+    private final List< Fusion > fusions = new ArrayList<>();
+
+    /**
+     * L'indice de chaque syllabe dans {@code vocabulaire}.
+     */
+    private final HashMap< SyllabeFrancais, Integer > indices = new HashMap<>();
+
+    /**
+     * Le {@code ForkJoinPool} utilisé pour chercher les paires, ou {@code null} pour une recherche séquentielle.
+     */
+    private ForkJoinPool pool = null;
+
+
+    /**
+     * Prépare la réduction d'un texte.
+     *
+     * @param texte le texte à réduire.  Ne doit pas être modifié avant l'appel de {@code appliquer}.
+     */
+    public Reduction( TexteSonore texte ) {
+        this.texte = texte;
+
+        List< SyllabeFrancais > distinctes = new ArrayList<>();
+
+        for( SyllabeFrancais syllabe : texte ) {
+            if( null == indices.putIfAbsent( syllabe, distinctes.size() ) ) {
+                distinctes.add( syllabe );
+            }
+        }
+
+        vocabulaire = distinctes.toArray( new SyllabeFrancais[ 0 ] );
+        occurrences = new int[ vocabulaire.length ];
+        ensembles = new EnsemblesDisjoints( vocabulaire.length );
+        vivants = new int[ vocabulaire.length ];
+        syllabesVivantes = vocabulaire.clone();
+        rangs = new int[ vocabulaire.length ];
+        nombreDeSons = vocabulaire.length;
+        for( int i = 0; i < vocabulaire.length; ++i ) {
+            occurrences[ i ] = texte.compterOccurrences( vocabulaire[ i ] );
+            vivants[ i ] = i;
+            rangs[ i ] = i;
+        }
+    }
+
+
+    /**
+     * Choisit le {@code ForkJoinPool} utilisé pour chercher les paires.
+     *
+     * @param pool le {@code ForkJoinPool}, ou {@code null} pour une recherche séquentielle.
+     */
+    public void setPool( ForkJoinPool pool ) {
+        this.pool = pool;
+    }
+
+
+    /**
+     * Retourne le {@code ForkJoinPool} utilisé pour chercher les paires.
+     *
+     * @return le {@code ForkJoinPool}, ou {@code null} si la recherche est séquentielle.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+
+    /**
+     * Retourne le nombre de syllabes différentes dans le texte réduit.
+     *
+     * @return le nombre de syllabes différentes.
+     */
+    public int getNombreDeSons() {
+        return nombreDeSons;
+    }
+
+
+    /**
+     * Retourne les fusions faites jusqu'à maintenant.
+     *
+     * @return les fusions, dans l'ordre.  La liste ne peut pas être modifiée.
+     */
+    public List< Fusion > getFusions() {
+        return Collections.unmodifiableList( fusions );
+    }
+
+
+    /**
+     * Fusionne des syllabes jusqu'à ce que le texte réduit ait au plus {@code cible} syllabes différentes.
+     *
+     * @param cible le nombre de syllabes différentes à atteindre.
+     */
+    public void reduire( int cible ) {
+        while( nombreDeSons > cible && nombreDeSons > 1 ) {
+            int[] paire = trouverPaire();
+
+            fusionner( paire[ RecherchePaireProche.PREMIERE ], paire[ RecherchePaireProche.SECONDE ],
+                    paire[ RecherchePaireProche.DISTANCE ] );
+        }
+    }
+
+
+    /**
+     * Trouve la paire de syllabes que {@code TexteSonore.trouverSyllabeForteFaible} trouverait dans le texte
+     * réduit : la plus petite distance, puis la paire dont les premières occurrences viennent en premier.
+     *
+     * @see RecherchePaireProche
+     * @return les positions dans {@code vivants} des deux syllabes, dans l'ordre de leur première occurrence,
+     * et leur distance, placées comme dans le résultat de {@code RecherchePaireProche.trouver}.
+     */
+    protected int[] trouverPaire() {
+        return null == pool
+                ? RecherchePaireProche.trouver( syllabesVivantes, nombreDeSons )
+                : RecherchePaireProche.trouver( syllabesVivantes, nombreDeSons, pool );
+    }
+
+
+    /**
+     * Fusionne deux syllabes présentes.  La syllabe gardée est celle qui a le plus d'occurrences, ou la première
+     * en cas d'égalité, comme le fait {@code TexteSonore.trierSyllabeParOccurence}.
+     *
+     * @param premiere la position dans {@code vivants} de la syllabe dont la première occurrence vient en premier.
+     * @param seconde la position dans {@code vivants} de l'autre syllabe, plus grande que {@code premiere}.
+     * @param distance la distance entre les deux syllabes.
+     */
+    protected void fusionner( int premiere, int seconde, int distance ) {
+        int survivante = vivants[ premiere ];
+        int absorbee = vivants[ seconde ];
+
+        if( occurrences[ survivante ] < occurrences[ absorbee ] ) {
+            survivante = vivants[ seconde ];
+            absorbee = vivants[ premiere ];
+        }
+
+        ensembles.unir( survivante, absorbee );
+        occurrences[ survivante ] += occurrences[ absorbee ];
+        rangs[ survivante ] = rangs[ vivants[ premiere ] ];
+        vivants[ premiere ] = survivante;
+        syllabesVivantes[ premiere ] = vocabulaire[ survivante ];
+        System.arraycopy( vivants, seconde + 1, vivants, seconde, nombreDeSons - seconde - 1 );
+        System.arraycopy( syllabesVivantes, seconde + 1, syllabesVivantes, seconde, nombreDeSons - seconde - 1 );
+        --nombreDeSons;
+
+        fusions.add( new Fusion( vocabulaire[ survivante ], vocabulaire[ absorbee ], distance, nombreDeSons ) );
+    }
+
+
+    /**
+     * Cherche la position d'une syllabe présente dans {@code vivants}.
+     *
+     * @param syllabe l'indice de la syllabe dans {@code vocabulaire}.
+     * @return sa position dans {@code vivants}.
+     */
+    protected int chercherPosition( int syllabe ) {
+        int debut = 0;
+        int fin = nombreDeSons - 1;
+
+        while( debut < fin ) {
+            int milieu = ( debut + fin ) >>> 1;
+
+            if( rangs[ vivants[ milieu ] ] < rangs[ syllabe ] ) {
+                debut = milieu + 1;
+            } else {
+                fin = milieu;
+            }
+        }
+
+        return debut;
+    }
+
+
+    /**
+     * Retourne la syllabe qui remplace une syllabe du texte d'origine dans le texte réduit.
+     *
+     * @param syllabe une syllabe du texte d'origine.
+     * @return la syllabe qui la remplace, ou la syllabe elle-même si elle n'a pas été fusionnée.
+     */
+    public SyllabeFrancais trouverRemplacante( SyllabeFrancais syllabe ) {
+        Integer indice = indices.get( syllabe );
+
+        return null == indice ? syllabe : vocabulaire[ ensembles.trouver( indice ) ];
+    }
+
+
+    /**
+     * Réécrit le texte en remplaçant chaque syllabe par celle qui la remplace, en un seul parcours.
+     */
+    public void appliquer() {
+        if( nombreDeSons < vocabulaire.length ) {
+            texte.replaceAll( this::trouverRemplacante );
+        }
+    }
+}
@@ -0,0 +1,198 @@
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+
+/**
+ * Réduction qui garde le plus proche voisin de chaque syllabe au lieu de chercher la paire la plus proche à chaque
+ * fusion.
+ *
+ * Le voisin d'une syllabe est la syllabe la plus proche parmi celles dont la première occurrence vient après la
+ * sienne, la première en cas d'égalité.  La paire la plus proche du texte est donc la paire formée par une syllabe
+ * et son voisin qui a la plus petite clé (distance, rang de la syllabe, rang du voisin), où le rang d'une syllabe
+ * est sa première occurrence.  Ces paires sont gardées dans une file de priorité.  Une fusion ne fait recalculer
+ * que les voisins qu'elle rend invalides, et les entrées périmées de la file sont ignorées quand elles en sortent.
+ * Les voisins sont cherchés dans un {@code ArbreBK} qui contient les syllabes présentes.
+ *
+ * Les fusions et le texte obtenu sont les mêmes qu'avec {@code Reduction}.
+ *
+ * @see Reduction
+ * @see ArbreBK
+ */
+public class ReductionAgglomerative extends Reduction {
+    /**
+     * Valeur de {@code voisins} pour une syllabe qui n'a pas de voisin.
+     */
+    private static final int AUCUN = -1;
+
+
+    /**
+     * Une paire candidate gardée dans la file de priorité.
+     */
+    private static class Candidat {
+        final int syllabe;
+        final int voisin;
+        final int distance;
+        final int rangSyllabe;
+        final int rangVoisin;
+        final int version;
+
+        Candidat( int syllabe, int voisin, int distance, int rangSyllabe, int rangVoisin, int version ) {
+            this.syllabe = syllabe;
+            this.voisin = voisin;
+            this.distance = distance;
+            this.rangSyllabe = rangSyllabe;
+            this.rangVoisin = rangVoisin;
+            this.version = version;
+        }
+    }
+
+
+    /**
+     * Le voisin de chaque syllabe présente, ou {@code AUCUN}.
+     */
+    private final int[] voisins;
+
+    /**
+     * La distance entre chaque syllabe présente et son voisin.
+     */
+    private final int[] distancesVoisins;
+
+    /**
+     * La version du voisin de chaque syllabe.  Un candidat dont la version n'est plus celle de sa syllabe est périmé.
+     */
+    private final int[] versions;
+
+    /**
+     * Les syllabes présentes, pour chercher les voisins.
+     */
+    private final ArbreBK arbre;
+
+    /**
+     * Les paires candidates, la plus proche en premier.
+     */
+    private final PriorityQueue< Candidat > file = new PriorityQueue<>(
+            Comparator.< Candidat >comparingInt( c -> c.distance )
+                    .thenComparingInt( c -> c.rangSyllabe )
+                    .thenComparingInt( c -> c.rangVoisin ) );
+
+
+    /**
+     * Prépare la réduction d'un texte et calcule le voisin de chaque syllabe.
+     *
+     * @param texte le texte à réduire.  Ne doit pas être modifié avant l'appel de {@code appliquer}.
+     */
+    public ReductionAgglomerative( TexteSonore texte ) {
+        super( texte );
+
+        voisins = new int[ vocabulaire.length ];
+        distancesVoisins = new int[ vocabulaire.length ];
+        versions = new int[ vocabulaire.length ];
+        arbre = new ArbreBK( vocabulaire );
+        for( int i = 0; i < vocabulaire.length; ++i ) {
+            arbre.ajouter( i );
+        }
+        for( int i = 0; i < vocabulaire.length; ++i ) {
+            calculerVoisin( i );
+        }
+    }
+
+
+    /**
+     * Fusionne des syllabes jusqu'à ce que le texte réduit ait au plus {@code cible} syllabes différentes.
+     *
+     * @param cible le nombre de syllabes différentes à atteindre.
+     */
+    @Override
+    public void reduire( int cible ) {
+        while( nombreDeSons > cible && nombreDeSons > 1 ) {
+            Candidat candidat = file.poll();
+
+            if( candidat.version == versions[ candidat.syllabe ] ) {
+                fusionnerCandidat( candidat );
+            }
+        }
+    }
+
+
+    /**
+     * Fusionne la paire d'un candidat valide et met à jour les voisins touchés par la fusion.
+     *
+     * @param candidat le candidat.
+     */
+    private void fusionnerCandidat( Candidat candidat ) {
+        int premiere = chercherPosition( candidat.syllabe );
+
+        fusionner( premiere, chercherPosition( candidat.voisin ), candidat.distance );
+
+        int survivante = vivants[ premiere ];
+        int absorbee = survivante == candidat.syllabe ? candidat.voisin : candidat.syllabe;
+
+        ++versions[ absorbee ];
+        arbre.retirer( absorbee );
+
+        for( int i = 0; i < nombreDeSons; ++i ) {
+            int syllabe = vivants[ i ];
+
+            if( i == premiere ) {
+                calculerVoisin( syllabe );
+            } else if( voisins[ syllabe ] == candidat.syllabe || voisins[ syllabe ] == candidat.voisin ) {
+                calculerVoisin( syllabe );
+            } else if( i < premiere && survivante != candidat.syllabe ) {
+                proposerVoisin( syllabe, survivante );
+            }
+        }
+    }
+
+
+    /**
+     * Calcule le voisin d'une syllabe présente parmi les syllabes qui la suivent dans {@code vivants}, c'est-à-dire
+     * celles de plus grand rang.
+     *
+     * @param syllabe l'indice de la syllabe dans {@code vocabulaire}.
+     */
+    private void calculerVoisin( int syllabe ) {
+        int voisin = arbre.trouverPlusProche( vocabulaire[ syllabe ], autre -> rangs[ autre ] > rangs[ syllabe ],
+                autre -> rangs[ autre ] );
+        int distance = AUCUN == voisin
+                ? TexteSonore.DISTANCE_MINIMALE
+                : vocabulaire[ syllabe ].calculerDistanceSyllabe( vocabulaire[ voisin ] );
+
+        changerVoisin( syllabe, voisin, distance );
+    }
+
+
+    /**
+     * Remplace le voisin d'une syllabe par une autre syllabe qui la suit, si l'autre syllabe est plus proche, ou
+     * aussi proche avec un rang plus petit.
+     *
+     * @param syllabe l'indice de la syllabe dans {@code vocabulaire}.
+     * @param autre l'indice de l'autre syllabe dans {@code vocabulaire}.
+     */
+    private void proposerVoisin( int syllabe, int autre ) {
+        int distance = vocabulaire[ syllabe ].calculerDistanceSyllabe( vocabulaire[ autre ],
+                distancesVoisins[ syllabe ] + 1 );
+
+        if( distance < distancesVoisins[ syllabe ] || ( distance == distancesVoisins[ syllabe ]
+                && AUCUN != voisins[ syllabe ] && rangs[ autre ] < rangs[ voisins[ syllabe ] ] ) ) {
+            changerVoisin( syllabe, autre, distance );
+        }
+    }
+
+
+    /**
+     * Change le voisin d'une syllabe et ajoute le nouveau candidat dans la file.
+     *
+     * @param syllabe l'indice de la syllabe dans {@code vocabulaire}.
+     * @param voisin l'indice du voisin dans {@code vocabulaire}, ou {@code AUCUN}.
+     * @param distance la distance entre la syllabe et son voisin.
+     */
+    private void changerVoisin( int syllabe, int voisin, int distance ) {
+        voisins[ syllabe ] = voisin;
+        distancesVoisins[ syllabe ] = distance;
+        ++versions[ syllabe ];
+        if( AUCUN != voisin ) {
+            file.add( new Candidat( syllabe, voisin, distance, rangs[ syllabe ], rangs[ voisin ],
+                    versions[ syllabe ] ) );
+        }
+    }
+}
@@ -0,0 +1,465 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+
+/**
+ * Réduction approximative pour les très grands vocabulaires, qui ne cherche le voisin d'une syllabe que parmi les
+ * syllabes de ses seaux de hachage.
+ *
+ * Le hachage est un échantillonnage de bits (LSH) sur le vecteur de caractéristiques
+ * {@code SyllabeFrancais.calculerVecteur} : chaque table garde {@code bits} bits choisis au hasard, et deux syllabes
+ * sont dans le même seau d'une table si elles ont les mêmes valeurs pour ces bits.  Deux syllabes proches diffèrent
+ * par peu de bits et ont donc de bonnes chances de partager un seau dans au moins une des {@code tables} tables.
+ * Plus de tables trouvent plus souvent la paire la plus proche, plus de bits donnent des seaux plus petits et une
+ * recherche plus rapide.  Pour borner le coût d'une recherche de voisin, un seau de plus de
+ * {@code TAILLE_MAXIMALE_SEAU} syllabes est découpé selon les bits suivants de la table, choisis eux aussi au hasard,
+ * jusqu'à ce que chaque morceau soit assez petit : les syllabes d'un morceau restent semblables.
+ *
+ * Comme dans {@code ReductionAgglomerative}, chaque syllabe garde son voisin, la syllabe la plus proche qui la suit,
+ * mais seulement parmi les syllabes de ses seaux, et les paires formées par une syllabe et son voisin sont gardées
+ * dans une file de priorité.  Une fusion ne fait recalculer que les voisins des syllabes qui partagent un seau avec
+ * les syllabes fusionnées.  Quand plus aucune syllabe n'a de voisin, les tables sont reconstruites avec les syllabes
+ * présentes et un bit de moins.  Avec {@code setVerification}, chaque paire choisie est comparée à la paire la plus
+ * proche trouvée par la recherche exacte.
+ *
+ * @see ReductionAgglomerative
+ * @see RecherchePaireProche
+ */
+public class ReductionApproximative extends Reduction {
+    /**
+     * La graine du générateur qui choisit les bits de chaque table, pour que les résultats soient reproductibles.
+     */
+    private static final long GRAINE = 2120L;
+
+    /**
+     * Le plus grand nombre de syllabes d'un morceau de seau.
+     */
+    private static final int TAILLE_MAXIMALE_SEAU = 64;
+
+    /**
+     * Valeur de {@code voisins} pour une syllabe qui n'a pas de voisin.
+     */
+    private static final int AUCUN = -1;
+
+
+    /**
+     * Une paire candidate gardée dans la file de priorité.
+     */
+    private static class Candidat {
+        final int syllabe;
+        final int voisin;
+        final int distance;
+        final int rangSyllabe;
+        final int rangVoisin;
+        final int version;
+
+        Candidat( int syllabe, int voisin, int distance, int rangSyllabe, int rangVoisin, int version ) {
+            this.syllabe = syllabe;
+            this.voisin = voisin;
+            this.distance = distance;
+            this.rangSyllabe = rangSyllabe;
+            this.rangVoisin = rangVoisin;
+            this.version = version;
+        }
+    }
+
+
+    /**
+     * Le générateur qui choisit les bits de chaque table.
+     */
+    private final Random hasard = new Random( GRAINE );
+
+    /**
+     * Le nombre de bits gardés par chaque table, diminué à chaque reconstruction.
+     */
+    private int bits;
+
+    /**
+     * Le vecteur de caractéristiques de chaque syllabe du vocabulaire.
+     */
+    private final long[] vecteurs;
+
+    /**
+     * Le morceau de seau de chaque syllabe dans chaque table, donné par un indice dans {@code seaux}.
+     */
+    private final int[][] seauxDe;
+
+    /**
+     * Les morceaux de seaux de toutes les tables.  Chaque morceau contient des indices dans {@code vocabulaire}.
+     */
+    private int[][] seaux;
+
+    /**
+     * Indique si chaque syllabe est encore présente, c'est-à-dire si elle n'a pas été absorbée.
+     */
+    private final boolean[] presentes;
+
+    /**
+     * Le voisin de chaque syllabe présente, ou {@code AUCUN}.
+     */
+    private final int[] voisins;
+
+    /**
+     * La distance entre chaque syllabe présente et son voisin.
+     */
+    private final int[] distancesVoisins;
+
+    /**
+     * La version du voisin de chaque syllabe.  Un candidat dont la version n'est plus celle de sa syllabe est périmé.
+     */
+    private final int[] versions;
+
+    /**
+     * La dernière fusion pendant laquelle chaque syllabe a été mise à jour.
+     */
+    private final int[] marques;
+
+    /**
+     * Les paires candidates, la plus proche en premier.
+     */
+    private final PriorityQueue< Candidat > file = new PriorityQueue<>(
+            Comparator.< Candidat >comparingInt( c -> c.distance )
+                    .thenComparingInt( c -> c.rangSyllabe )
+                    .thenComparingInt( c -> c.rangVoisin ) );
+
+    /**
+     * Indique si chaque paire choisie est comparée à la recherche exacte.
+     */
+    private boolean verification = false;
+
+    /**
+     * Le nombre de paires choisies.
+     */
+    private int nombreDeRecherches = 0;
+
+    /**
+     * Le nombre de reconstructions des tables.
+     */
+    private int nombreDeReconstructions = 0;
+
+    /**
+     * Le nombre de paires choisies vérifiées.
+     */
+    private int nombreDeVerifications = 0;
+
+    /**
+     * Le nombre de paires vérifiées qui étaient plus éloignées que la paire la plus proche.
+     */
+    private int nombreDeManques = 0;
+
+
+    /**
+     * Prépare la réduction d'un texte, remplit les tables de hachage et calcule le voisin de chaque syllabe.
+     *
+     * @param texte le texte à réduire.  Ne doit pas être modifié avant l'appel de {@code appliquer}.
+     * @param tables le nombre de tables, au moins {@code 1}.
+     * @param bits le nombre de bits gardés par chaque table, entre {@code 1} et
+     *             {@code SyllabeFrancais.LONGUEUR_VECTEUR}.
+     */
+    public ReductionApproximative( TexteSonore texte, int tables, int bits ) {
+        super( texte );
+
+        this.bits = bits;
+        vecteurs = new long[ vocabulaire.length ];
+        seauxDe = new int[ tables ][ vocabulaire.length ];
+        presentes = new boolean[ vocabulaire.length ];
+        voisins = new int[ vocabulaire.length ];
+        distancesVoisins = new int[ vocabulaire.length ];
+        versions = new int[ vocabulaire.length ];
+        marques = new int[ vocabulaire.length ];
+        for( int i = 0; i < vocabulaire.length; ++i ) {
+            vecteurs[ i ] = vocabulaire[ i ].calculerVecteur();
+            presentes[ i ] = true;
+        }
+
+        construireTables();
+    }
+
+
+    /**
+     * Choisit au hasard l'ordre des bits d'une table.  Les {@code bits} premiers forment la clé des seaux, les
+     * suivants servent à découper les seaux trop gros.
+     *
+     * @param hasard le générateur.
+     * @return les positions des {@code SyllabeFrancais.LONGUEUR_VECTEUR} bits du vecteur, dans un ordre au hasard.
+     */
+    private static int[] choisirOrdre( Random hasard ) {
+        int[] resultat = new int[ SyllabeFrancais.LONGUEUR_VECTEUR ];
+
+        for( int i = 0; i < resultat.length; ++i ) {
+            int j = hasard.nextInt( i + 1 );
+
+            resultat[ i ] = resultat[ j ];
+            resultat[ j ] = i;
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Choisit si chaque paire choisie est comparée à la recherche exacte.  La réduction est alors aussi lente que la
+     * réduction exacte.
+     *
+     * @param verification {@code true} pour vérifier les paires.
+     */
+    public void setVerification( boolean verification ) {
+        this.verification = verification;
+    }
+
+
+    /**
+     * Retourne le nombre de paires choisies, une par fusion.
+     *
+     * @return le nombre de recherches.
+     */
+    public int getNombreDeRecherches() {
+        return nombreDeRecherches;
+    }
+
+
+    /**
+     * Retourne le nombre de fois où les tables ont été reconstruites faute de voisin.
+     *
+     * @return le nombre de reconstructions.
+     */
+    public int getNombreDeReconstructions() {
+        return nombreDeReconstructions;
+    }
+
+
+    /**
+     * Retourne le nombre de paires choisies vérifiées.
+     *
+     * @return le nombre de vérifications.
+     */
+    public int getNombreDeVerifications() {
+        return nombreDeVerifications;
+    }
+
+
+    /**
+     * Retourne le nombre de paires vérifiées qui n'étaient pas parmi les plus proches.
+     *
+     * @return le nombre de manques.
+     */
+    public int getNombreDeManques() {
+        return nombreDeManques;
+    }
+
+
+    /**
+     * Fusionne des syllabes jusqu'à ce que le texte réduit ait au plus {@code cible} syllabes différentes.
+     *
+     * @param cible le nombre de syllabes différentes à atteindre.
+     */
+    @Override
+    public void reduire( int cible ) {
+        while( nombreDeSons > cible && nombreDeSons > 1 ) {
+            Candidat candidat = file.poll();
+
+            if( null == candidat ) {
+                // Sans bits, toutes les syllabes présentes sont dans un même seau, dont au moins un morceau a deux
+                // syllabes : il y a un voisin et la boucle avance.
+                ++nombreDeReconstructions;
+                bits = Math.max( 0, bits - 1 );
+                construireTables();
+            } else if( candidat.version == versions[ candidat.syllabe ] ) {
+                ++nombreDeRecherches;
+                if( verification ) {
+                    verifier( candidat );
+                }
+                fusionnerCandidat( candidat );
+            }
+        }
+    }
+
+
+    /**
+     * Compare la distance d'un candidat à celle de la paire la plus proche.
+     *
+     * @param candidat le candidat qui va être fusionné.
+     */
+    private void verifier( Candidat candidat ) {
+        ++nombreDeVerifications;
+        if( trouverPaire()[ RecherchePaireProche.DISTANCE ] < candidat.distance ) {
+            ++nombreDeManques;
+        }
+    }
+
+
+    /**
+     * Remplit les tables avec les syllabes présentes, puis calcule le voisin de chaque syllabe présente.
+     *
+     * Les syllabes sont ajoutées aux seaux dans l'ordre de {@code vivants}, c'est-à-dire de leur rang.
+     */
+    private void construireTables() {
+        List< int[] > morceaux = new ArrayList<>();
+
+        for( int[] table : seauxDe ) {
+            int[] ordre = choisirOrdre( hasard );
+            long masque = 0;
+            HashMap< Long, ListeEntiers > seauxTable = new HashMap<>();
+
+            for( int k = 0; k < bits; ++k ) {
+                masque |= 1L << ordre[ k ];
+            }
+            for( int i = 0; i < nombreDeSons; ++i ) {
+                seauxTable.computeIfAbsent( vecteurs[ vivants[ i ] ] & masque, cle -> new ListeEntiers() )
+                        .ajouter( vivants[ i ] );
+            }
+            for( ListeEntiers seau : seauxTable.values() ) {
+                decouper( seau, ordre, bits, table, morceaux );
+            }
+        }
+        seaux = morceaux.toArray( new int[ 0 ][] );
+
+        for( int i = 0; i < nombreDeSons; ++i ) {
+            calculerVoisin( vivants[ i ] );
+        }
+    }
+
+
+    /**
+     * Ajoute un seau à une table, découpé en morceaux d'au plus {@code TAILLE_MAXIMALE_SEAU} syllabes.  Un seau trop
+     * gros est séparé selon le bit suivant de la table, puis chaque moitié est découpée à son tour.  Si tous les bits
+     * ont servi, ce qui n'arrive que pour des syllabes qui ne diffèrent que par la nasalité, le seau est coupé en
+     * morceaux de syllabes consécutives.
+     *
+     * @param seau les syllabes du seau, dans l'ordre de leur rang.
+     * @param ordre l'ordre des bits de la table.
+     * @param suivant la position dans {@code ordre} du prochain bit qui sert à découper.
+     * @param table reçoit le morceau de chaque syllabe du seau.
+     * @param morceaux reçoit les morceaux.
+     */
+    private void decouper( ListeEntiers seau, int[] ordre, int suivant, int[] table, List< int[] > morceaux ) {
+        if( seau.taille() > TAILLE_MAXIMALE_SEAU && suivant < ordre.length ) {
+            ListeEntiers zeros = new ListeEntiers();
+            ListeEntiers uns = new ListeEntiers();
+
+            for( int k = 0; k < seau.taille(); ++k ) {
+                ( 0 == ( vecteurs[ seau.get( k ) ] >>> ordre[ suivant ] & 1 ) ? zeros : uns ).ajouter( seau.get( k ) );
+            }
+            decouper( zeros, ordre, suivant + 1, table, morceaux );
+            decouper( uns, ordre, suivant + 1, table, morceaux );
+        } else {
+            for( int debut = 0; debut < seau.taille(); debut += TAILLE_MAXIMALE_SEAU ) {
+                int[] morceau = new int[ Math.min( TAILLE_MAXIMALE_SEAU, seau.taille() - debut ) ];
+
+                for( int k = 0; k < morceau.length; ++k ) {
+                    morceau[ k ] = seau.get( debut + k );
+                    table[ morceau[ k ] ] = morceaux.size();
+                }
+                morceaux.add( morceau );
+            }
+        }
+    }
+
+
+    /**
+     * Fusionne la paire d'un candidat valide et met à jour les voisins touchés par la fusion.  Seules les syllabes
+     * qui partagent un seau avec les syllabes fusionnées peuvent avoir l'une d'elles comme voisin.
+     *
+     * @param candidat le candidat.
+     */
+    private void fusionnerCandidat( Candidat candidat ) {
+        int premiere = chercherPosition( candidat.syllabe );
+
+        fusionner( premiere, chercherPosition( candidat.voisin ), candidat.distance );
+
+        int survivante = vivants[ premiere ];
+        int absorbee = survivante == candidat.syllabe ? candidat.voisin : candidat.syllabe;
+        int marque = nombreDeRecherches;
+
+        ++versions[ absorbee ];
+        presentes[ absorbee ] = false;
+        calculerVoisin( survivante );
+        marques[ survivante ] = marque;
+
+        // Les seaux de la survivante d'abord : si elle a pris le rang de la première syllabe, elle devient un voisin
+        // possible pour les syllabes de ses seaux qui la précèdent maintenant.
+        for( int syllabe : new int[]{ survivante, absorbee } ) {
+            for( int[] table : seauxDe ) {
+                for( int autre : seaux[ table[ syllabe ] ] ) {
+                    if( presentes[ autre ] && marques[ autre ] != marque ) {
+                        marques[ autre ] = marque;
+                        if( voisins[ autre ] == candidat.syllabe || voisins[ autre ] == candidat.voisin ) {
+                            calculerVoisin( autre );
+                        } else if( syllabe == survivante && survivante != candidat.syllabe
+                                && rangs[ autre ] < rangs[ survivante ] ) {
+                            proposerVoisin( autre, survivante );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Calcule le voisin d'une syllabe présente parmi les syllabes de ses seaux qui ont un plus grand rang.
+     *
+     * @param syllabe l'indice de la syllabe dans {@code vocabulaire}.
+     */
+    private void calculerVoisin( int syllabe ) {
+        int voisin = AUCUN;
+        int distanceVoisin = TexteSonore.DISTANCE_MINIMALE;
+
+        for( int[] table : seauxDe ) {
+            for( int autre : seaux[ table[ syllabe ] ] ) {
+                if( presentes[ autre ] && rangs[ autre ] > rangs[ syllabe ] ) {
+                    int distance = vocabulaire[ syllabe ].calculerDistanceSyllabe( vocabulaire[ autre ],
+                            distanceVoisin + 1 );
+
+                    if( distance < distanceVoisin || ( distance == distanceVoisin && AUCUN != voisin
+                            && rangs[ autre ] < rangs[ voisin ] ) ) {
+                        voisin = autre;
+                        distanceVoisin = distance;
+                    }
+                }
+            }
+        }
+
+        changerVoisin( syllabe, voisin, distanceVoisin );
+    }
+
+
+    /**
+     * Remplace le voisin d'une syllabe par une autre syllabe qui la suit, si l'autre syllabe est plus proche, ou
+     * aussi proche avec un rang plus petit.
+     *
+     * @param syllabe l'indice de la syllabe dans {@code vocabulaire}.
+     * @param autre l'indice de l'autre syllabe dans {@code vocabulaire}.
+     */
+    private void proposerVoisin( int syllabe, int autre ) {
+        int distance = vocabulaire[ syllabe ].calculerDistanceSyllabe( vocabulaire[ autre ],
+                distancesVoisins[ syllabe ] + 1 );
+
+        if( distance < distancesVoisins[ syllabe ] || ( distance == distancesVoisins[ syllabe ]
+                && AUCUN != voisins[ syllabe ] && rangs[ autre ] < rangs[ voisins[ syllabe ] ] ) ) {
+            changerVoisin( syllabe, autre, distance );
+        }
+    }
+
+
+    /**
+     * Change le voisin d'une syllabe et ajoute le nouveau candidat dans la file.
+     *
+     * @param syllabe l'indice de la syllabe dans {@code vocabulaire}.
+     * @param voisin l'indice du voisin dans {@code vocabulaire}, ou {@code AUCUN}.
+     * @param distance la distance entre la syllabe et son voisin.
+     */
+    private void changerVoisin( int syllabe, int voisin, int distance ) {
+        voisins[ syllabe ] = voisin;
+        distancesVoisins[ syllabe ] = distance;
+        ++versions[ syllabe ];
+        if( AUCUN != voisin ) {
+            file.add( new Candidat( syllabe, voisin, distance, rangs[ syllabe ], rangs[ voisin ],
+                    versions[ syllabe ] ) );
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * Réduction approximative qui fait plusieurs fusions à chaque tour.
+ *
+ * À chaque tour, la plus petite distance entre deux syllabes présentes est cherchée, puis toutes les paires dont la
+ * distance dépasse ce minimum d'au plus {@code tolerance}.  Ces paires sont prises dans l'ordre de la clé
+ * (distance, première syllabe, seconde syllabe), en sautant celles qui touchent une syllabe déjà fusionnée pendant le
+ * tour, et sont toutes fusionnées avant la recherche suivante.  Le nombre de tours est donc beaucoup plus petit que le
+ * nombre de fusions, mais le résultat peut être différent de celui de {@code Reduction}.
+ *
+ * @see Reduction
+ */
+public class ReductionParLots extends Reduction {
+    /**
+     * L'écart de distance accepté au-dessus du minimum d'un tour.
+     */
+    private final int tolerance;
+
+    /**
+     * Le nombre de tours faits.
+     */
+    private int nombreDeTours = 0;
+
+
+    /**
+     * Prépare la réduction d'un texte.
+     *
+     * @param texte le texte à réduire.  Ne doit pas être modifié avant l'appel de {@code appliquer}.
+     * @param tolerance l'écart de distance accepté au-dessus du minimum d'un tour, au moins {@code 0}.
+     */
+    public ReductionParLots( TexteSonore texte, int tolerance ) {
+        super( texte );
+        this.tolerance = tolerance;
+    }
+
+
+    /**
+     * Retourne le nombre de tours faits.
+     *
+     * @return le nombre de tours.
+     */
+    public int getNombreDeTours() {
+        return nombreDeTours;
+    }
+
+
+    /**
+     * Fusionne des syllabes par tours jusqu'à ce que le texte réduit ait au plus {@code cible} syllabes différentes.
+     *
+     * @param cible le nombre de syllabes différentes à atteindre.
+     */
+    @Override
+    public void reduire( int cible ) {
+        while( nombreDeSons > cible && nombreDeSons > 1 ) {
+            int[] paire = trouverPaire();
+            List< int[] > paires = choisirPaires( trouverPaires( paire[ RecherchePaireProche.DISTANCE ] + tolerance ),
+                    nombreDeSons - Math.max( cible, 1 ) );
+
+            // De la dernière seconde position à la première : une fusion ne déplace que les positions qui suivent
+            // la syllabe absorbée, et les paires choisies n'ont aucune syllabe en commun.
+            paires.sort( Comparator.comparingInt( p -> -p[ RecherchePaireProche.SECONDE ] ) );
+            for( int[] p : paires ) {
+                fusionner( p[ RecherchePaireProche.PREMIERE ], p[ RecherchePaireProche.SECONDE ],
+                        p[ RecherchePaireProche.DISTANCE ] );
+            }
+            ++nombreDeTours;
+        }
+    }
+
+
+    /**
+     * Trouve toutes les paires de syllabes présentes dont la distance ne dépasse pas une limite.
+     *
+     * @param limite la plus grande distance acceptée.
+     * @return les paires, placées comme dans le résultat de {@code RecherchePaireProche.trouver}, dans l'ordre de
+     * la clé (distance, première position, seconde position).
+     */
+    private List< int[] > trouverPaires( int limite ) {
+        List< int[] > resultat = new ArrayList<>();
+        int[] formes = new int[ nombreDeSons ];
+
+        for( int i = 0; i < nombreDeSons; ++i ) {
+            formes[ i ] = syllabesVivantes[ i ].calculerForme();
+        }
+        for( int i = 0; i < nombreDeSons; ++i ) {
+            for( int j = i + 1; j < nombreDeSons; ++j ) {
+                if( SyllabeFrancais.calculerBorneDistance( formes[ i ], formes[ j ] ) <= limite ) {
+                    int distance = syllabesVivantes[ i ].calculerDistanceSyllabe( syllabesVivantes[ j ], limite + 1 );
+
+                    if( distance <= limite ) {
+                        resultat.add( new int[]{ i, j, distance } );
+                    }
+                }
+            }
+        }
+
+        resultat.sort( Comparator.< int[] >comparingInt( p -> p[ RecherchePaireProche.DISTANCE ] )
+                .thenComparingInt( p -> p[ RecherchePaireProche.PREMIERE ] )
+                .thenComparingInt( p -> p[ RecherchePaireProche.SECONDE ] ) );
+
+        return resultat;
+    }
+
+
+    /**
+     * Choisit, dans l'ordre, des paires qui n'ont aucune syllabe en commun.
+     *
+     * @param candidates les paires candidates, dans l'ordre de préférence.
+     * @param maximum le plus grand nombre de paires à choisir.
+     * @return les paires choisies.
+     */
+    private List< int[] > choisirPaires( List< int[] > candidates, int maximum ) {
+        List< int[] > resultat = new ArrayList<>();
+        boolean[] prises = new boolean[ nombreDeSons ];
+
+        for( int[] paire : candidates ) {
+            if( resultat.size() < maximum && !prises[ paire[ RecherchePaireProche.PREMIERE ] ]
+                    && !prises[ paire[ RecherchePaireProche.SECONDE ] ] ) {
+                prises[ paire[ RecherchePaireProche.PREMIERE ] ] = true;
+                prises[ paire[ RecherchePaireProche.SECONDE ] ] = true;
+                resultat.add( paire );
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Compte les positions où deux textes de même longueur ont des syllabes différentes.  Sert à mesurer l'écart
+     * entre une réduction par lots et la réduction exacte du même texte.
+     *
+     * @param texte un texte.
+     * @param autre un autre texte, de même longueur.
+     * @return le nombre de positions où les syllabes sont différentes.
+     */
+    public static int compterDifferences( TexteSonore texte, TexteSonore autre ) {
+        int resultat = 0;
+
+        for( int i = 0; i < texte.size(); ++i ) {
+            if( !texte.get( i ).equals( autre.get( i ) ) ) {
+                ++resultat;
+            }
+        }
+
+        return resultat;
+    }
+}
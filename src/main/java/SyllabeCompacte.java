@@ -0,0 +1,293 @@
+/**
+ * Encode une {@code SyllabeFrancais} dans un seul entier primitif, et calcule directement sur cette forme.
+ *
+ * Chaque phonème est représenté par son ordinal plus un, la valeur {@code 0} indiquant un phonème absent.  Les
+ * champs sont placés ainsi, du bit de poids faible au bit de poids fort :
+ * <ul>
+ *     <li>bits 0 à 6 : la consonne secondaire du coda ;</li>
+ *     <li>bits 7 à 13 : la consonne de base du coda ;</li>
+ *     <li>bit 14 : la nasalité du noyau ;</li>
+ *     <li>bits 15 à 19 : la voyelle de base du noyau ;</li>
+ *     <li>bits 20 à 24 : la semi-voyelle du noyau ;</li>
+ *     <li>bits 25 à 31 : la consonne secondaire de l'attaque ;</li>
+ *     <li>bits 32 à 38 : la consonne de base de l'attaque.</li>
+ * </ul>
+ * Avec 79 consonnes et 29 voyelles, une syllabe a besoin de 39 bits : la forme compacte est donc un {@code long}.
+ * Deux syllabes sont égales si et seulement si leurs formes compactes sont égales.
+ *
+ * @see SyllabeFrancais
+ */
+public final class SyllabeCompacte {
+    /**
+     * Le nombre de bits d'un code de consonne et d'un code de voyelle.
+     */
+    private static final int BITS_CONSONNE = 7;
+    private static final int BITS_VOYELLE = 5;
+
+    /**
+     * La position de chaque champ dans la forme compacte.
+     */
+    private static final int DECALAGE_CODA_2 = 0;
+    private static final int DECALAGE_CODA_1 = DECALAGE_CODA_2 + BITS_CONSONNE;
+    private static final int DECALAGE_NASAL = DECALAGE_CODA_1 + BITS_CONSONNE;
+    private static final int DECALAGE_VOYELLE = DECALAGE_NASAL + 1;
+    private static final int DECALAGE_SEMI_VOYELLE = DECALAGE_VOYELLE + BITS_VOYELLE;
+    private static final int DECALAGE_ATTAQUE_2 = DECALAGE_SEMI_VOYELLE + BITS_VOYELLE;
+    private static final int DECALAGE_ATTAQUE_1 = DECALAGE_ATTAQUE_2 + BITS_CONSONNE;
+
+    private static final int MASQUE_CONSONNE = ( 1 << BITS_CONSONNE ) - 1;
+    private static final int MASQUE_VOYELLE = ( 1 << BITS_VOYELLE ) - 1;
+
+    /**
+     * Les consonnes indexées par leur code (ordinal plus un).  L'indice {@code 0} est une consonne absente.
+     */
+    private static final API_Consonne[] CONSONNES = new API_Consonne[ API_Consonne.values().length + 1 ];
+
+    /**
+     * Les voyelles indexées par leur code (ordinal plus un).  L'indice {@code 0} est une voyelle absente.
+     */
+    private static final API_Voyelle[] VOYELLES = new API_Voyelle[ API_Voyelle.values().length + 1 ];
+
+    /**
+     * Distance entre deux consonnes, indexée par {@code code1 * CONSONNES.length + code2}.  Une consonne absente est à
+     * une distance de {@code 6} d'une consonne présente, comme dans {@code ConsonneFrancais.calculerDistanceConsonne}.
+     */
+    private static final byte[] DISTANCES_CONSONNES = new byte[ CONSONNES.length * CONSONNES.length ];
+
+    /**
+     * Distance entre deux voyelles, indexée par {@code code1 * VOYELLES.length + code2}.  Une voyelle absente est à
+     * une distance de {@code 4} d'une voyelle présente, comme dans {@code VoyelleFrancais.calculerDistanceVoyelle}.
+     */
+    private static final byte[] DISTANCES_VOYELLES = new byte[ VOYELLES.length * VOYELLES.length ];
+
+    static {
+        for( API_Consonne consonne : API_Consonne.values() ) {
+            CONSONNES[ consonne.ordinal() + 1 ] = consonne;
+        }
+        for( API_Voyelle voyelle : API_Voyelle.values() ) {
+            VOYELLES[ voyelle.ordinal() + 1 ] = voyelle;
+        }
+        for( int i = 0; i < CONSONNES.length; ++i ) {
+            for( int j = 0; j < CONSONNES.length; ++j ) {
+                DISTANCES_CONSONNES[ i * CONSONNES.length + j ] = (byte) ( 0 == i && 0 == j ? 0
+                        : 0 == i || 0 == j ? 6
+                        : CONSONNES[ i ].calculerDistanceApiConsonne( CONSONNES[ j ] ) );
+            }
+        }
+        for( int i = 0; i < VOYELLES.length; ++i ) {
+            for( int j = 0; j < VOYELLES.length; ++j ) {
+                DISTANCES_VOYELLES[ i * VOYELLES.length + j ] = (byte) ( 0 == i && 0 == j ? 0
+                        : 0 == i || 0 == j ? 4
+                        : VOYELLES[ i ].calculerDistanceApiVoyelle( VOYELLES[ j ] ) );
+            }
+        }
+    }
+
+
+    /**
+     * Cette classe ne contient que des méthodes statiques.
+     */
+    private SyllabeCompacte() {}
+
+
+    /**
+     * Encode une syllabe.
+     *
+     * @param syllabe la syllabe à encoder.  Ne doit pas être {@code null}.
+     * @return la forme compacte de la syllabe.
+     */
+    public static long encoder( SyllabeFrancais syllabe ) {
+        long resultat = 0;
+
+        if( null != syllabe.attaque ) {
+            resultat |= (long) code( syllabe.attaque.consonne1 ) << DECALAGE_ATTAQUE_1;
+            resultat |= (long) code( syllabe.attaque.consonne2 ) << DECALAGE_ATTAQUE_2;
+        }
+        resultat |= (long) code( syllabe.noyau.semiVoyelle ) << DECALAGE_SEMI_VOYELLE;
+        resultat |= (long) code( syllabe.noyau.voyelle ) << DECALAGE_VOYELLE;
+        resultat |= ( syllabe.noyau.nasal ? 1L : 0L ) << DECALAGE_NASAL;
+        if( null != syllabe.coda ) {
+            resultat |= (long) code( syllabe.coda.consonne1 ) << DECALAGE_CODA_1;
+            resultat |= (long) code( syllabe.coda.consonne2 ) << DECALAGE_CODA_2;
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Construit la syllabe représentée par une forme compacte.
+     *
+     * @param compacte une forme compacte produite par {@code encoder}.
+     * @return la syllabe canonique égale à celle qui a été encodée.
+     */
+    public static SyllabeFrancais decoder( long compacte ) {
+        ConsonneFrancais attaque = decoderConsonnes( consonne( compacte, DECALAGE_ATTAQUE_1 ),
+                consonne( compacte, DECALAGE_ATTAQUE_2 ) );
+        API_Voyelle semiVoyelle = VOYELLES[ voyelle( compacte, DECALAGE_SEMI_VOYELLE ) ];
+        API_Voyelle voyelle = VOYELLES[ voyelle( compacte, DECALAGE_VOYELLE ) ];
+        boolean nasal = 0 != ( compacte & ( 1L << DECALAGE_NASAL ) );
+        ConsonneFrancais coda = decoderConsonnes( consonne( compacte, DECALAGE_CODA_1 ),
+                consonne( compacte, DECALAGE_CODA_2 ) );
+        VoyelleFrancais noyau = null == semiVoyelle
+                ? VoyelleFrancais.obtenir( voyelle, nasal )
+                : VoyelleFrancais.obtenir( semiVoyelle, voyelle, nasal );
+
+        return SyllabeFrancais.obtenir( attaque, noyau, coda );
+    }
+
+
+    /**
+     * Calcule un code de hachage bien réparti pour une forme compacte.
+     *
+     * @param compacte la forme compacte.
+     * @return le code de hachage.
+     */
+    public static int hacher( long compacte ) {
+        long resultat = compacte * 0x9E3779B97F4A7C15L;
+
+        return (int) ( resultat ^ ( resultat >>> 32 ) );
+    }
+
+
+    /**
+     * Calcule la distance entre deux syllabes sous forme compacte.
+     *
+     * Le résultat est identique à {@code SyllabeFrancais.calculerDistanceSyllabe}, mais il est obtenu par des
+     * lectures dans des tables précalculées, sans passer par les objets.
+     *
+     * @param a la forme compacte de la première syllabe.
+     * @param b la forme compacte de la seconde syllabe.
+     * @return la distance entre les deux syllabes.
+     */
+    public static int calculerDistance( long a, long b ) {
+        return calculerDistanceConsonnes( a, b, DECALAGE_ATTAQUE_1, DECALAGE_ATTAQUE_2 )
+                + calculerDistanceNoyau( a, b )
+                + calculerDistanceConsonnes( a, b, DECALAGE_CODA_1, DECALAGE_CODA_2 );
+    }
+
+
+    /**
+     * Calcule la distance entre les noyaux de deux syllabes sous forme compacte.
+     *
+     * Comme dans {@code VoyelleFrancais.calculerDistanceVoyelle}, la distance est doublée et la nasalité n'y
+     * contribue pas.
+     *
+     * @param a la forme compacte de la première syllabe.
+     * @param b la forme compacte de la seconde syllabe.
+     * @return la distance entre les noyaux.
+     */
+    public static int calculerDistanceNoyau( long a, long b ) {
+        return 2 * ( DISTANCES_VOYELLES[ voyelle( a, DECALAGE_SEMI_VOYELLE ) * VOYELLES.length
+                        + voyelle( b, DECALAGE_SEMI_VOYELLE ) ]
+                + DISTANCES_VOYELLES[ voyelle( a, DECALAGE_VOYELLE ) * VOYELLES.length
+                        + voyelle( b, DECALAGE_VOYELLE ) ] );
+    }
+
+
+    /**
+     * Calcule la distance entre les attaques de deux syllabes sous forme compacte.
+     *
+     * @param a la forme compacte de la première syllabe.
+     * @param b la forme compacte de la seconde syllabe.
+     * @return la distance entre les attaques.
+     */
+    public static int calculerDistanceAttaque( long a, long b ) {
+        return calculerDistanceConsonnes( a, b, DECALAGE_ATTAQUE_1, DECALAGE_ATTAQUE_2 );
+    }
+
+
+    /**
+     * Calcule la distance entre les codas de deux syllabes sous forme compacte.
+     *
+     * @param a la forme compacte de la première syllabe.
+     * @param b la forme compacte de la seconde syllabe.
+     * @return la distance entre les codas.
+     */
+    public static int calculerDistanceCoda( long a, long b ) {
+        return calculerDistanceConsonnes( a, b, DECALAGE_CODA_1, DECALAGE_CODA_2 );
+    }
+
+
+    /**
+     * Calcule la distance entre deux groupes de consonnes, avec la pénalité de {@code 12} lorsqu'un seul des deux
+     * groupes est présent, comme dans {@code SyllabeFrancais.calculerDistanceAttaque}.
+     *
+     * @param a la forme compacte de la première syllabe.
+     * @param b la forme compacte de la seconde syllabe.
+     * @param decalage1 la position de la consonne de base du groupe.
+     * @param decalage2 la position de la consonne secondaire du groupe.
+     * @return la distance entre les groupes.
+     */
+    private static int calculerDistanceConsonnes( long a, long b, int decalage1, int decalage2 ) {
+        int a1 = consonne( a, decalage1 );
+        int b1 = consonne( b, decalage1 );
+        int resultat;
+
+        if( 0 == a1 && 0 == b1 ) {
+            resultat = 0;
+        } else if( 0 == a1 || 0 == b1 ) {
+            resultat = 12;
+        } else {
+            resultat = DISTANCES_CONSONNES[ a1 * CONSONNES.length + b1 ]
+                    + DISTANCES_CONSONNES[ consonne( a, decalage2 ) * CONSONNES.length + consonne( b, decalage2 ) ];
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Retourne le code d'un phonème.
+     *
+     * @param phoneme le phonème, peut être {@code null}.
+     * @return {@code 0} si le phonème est absent, sinon son ordinal plus un.
+     */
+    private static int code( Enum< ? > phoneme ) {
+        return null == phoneme ? 0 : phoneme.ordinal() + 1;
+    }
+
+
+    /**
+     * Extrait le code d'une consonne d'une forme compacte.
+     *
+     * @param compacte la forme compacte.
+     * @param decalage la position du champ.
+     * @return le code de la consonne.
+     */
+    private static int consonne( long compacte, int decalage ) {
+        return (int) ( compacte >>> decalage ) & MASQUE_CONSONNE;
+    }
+
+
+    /**
+     * Extrait le code d'une voyelle d'une forme compacte.
+     *
+     * @param compacte la forme compacte.
+     * @param decalage la position du champ.
+     * @return le code de la voyelle.
+     */
+    private static int voyelle( long compacte, int decalage ) {
+        return (int) ( compacte >>> decalage ) & MASQUE_VOYELLE;
+    }
+
+
+    /**
+     * Construit un groupe de consonnes à partir de leurs codes.
+     *
+     * @param code1 le code de la consonne de base.
+     * @param code2 le code de la consonne secondaire.
+     * @return le groupe, ou {@code null} si la consonne de base est absente.
+     */
+    private static ConsonneFrancais decoderConsonnes( int code1, int code2 ) {
+        ConsonneFrancais resultat = null;
+
+        if( 0 != code1 ) {
+            resultat = 0 == code2
+                    ? ConsonneFrancais.obtenir( CONSONNES[ code1 ] )
+                    : ConsonneFrancais.obtenir( CONSONNES[ code1 ], CONSONNES[ code2 ] );
+        }
+
+        return resultat;
+    }
+}
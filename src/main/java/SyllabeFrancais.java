@@ -1,6 +1,7 @@
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -10,12 +11,73 @@ import java.util.Scanner;
  * optionnelement, elle peu avoir deux groupes de consonne.
  * Le groupe de consonne avant le noyau est l'attaque de la syllabe.
  * Le groupe de consonne après le noyau est le coda de la syllabe.
+ * Les syllabes lues sont canoniques : {@code obtenir} retourne toujours le même objet pour des syllabes égales, ce
+ * qui évite de garder une copie de chaque syllabe pour chacune de ses occurrences dans un texte.
  *
  * @see ConsonneFrancais
  * @see VoyelleFrancais
  * @see <a href="https://fr.wiktionary.org/wiki/Annexe:Prononciation/fran%C3%A7ais">référence</a>
  */
 public class SyllabeFrancais {
+    /**
+     * Les syllabes canoniques, chacune associée à elle-même.  Peut être utilisé par plusieurs fils d'exécution.
+     */
+    private static final ConcurrentHashMap< SyllabeFrancais, SyllabeFrancais > SYLLABES = new ConcurrentHashMap<>();
+
+    /**
+     * Bit de la forme d'une syllabe qui a une attaque.
+     */
+    public static final int FORME_ATTAQUE = 1;
+
+    /**
+     * Bit de la forme d'une syllabe dont l'attaque a deux consonnes.
+     */
+    public static final int FORME_ATTAQUE_DOUBLE = 2;
+
+    /**
+     * Bit de la forme d'une syllabe qui a un coda.
+     */
+    public static final int FORME_CODA = 4;
+
+    /**
+     * Bit de la forme d'une syllabe dont le coda a deux consonnes.
+     */
+    public static final int FORME_CODA_DOUBLE = 8;
+
+    /**
+     * Bit de la forme d'une syllabe dont le noyau a une semi-voyelle.
+     */
+    public static final int FORME_SEMI_VOYELLE = 16;
+
+    /**
+     * Le nombre de formes possibles.  Les formes vont de {@code 0} à {@code NOMBRE_FORMES - 1}.
+     */
+    public static final int NOMBRE_FORMES = 32;
+
+    /**
+     * La plus petite distance possible entre deux syllabes de chaque paire de formes, indexée par
+     * {@code forme * NOMBRE_FORMES + autre}.
+     */
+    private static final byte[] BORNES = construireBornes();
+
+    /**
+     * Le nombre de bits du vecteur de caractéristiques d'une syllabe : deux groupes de consonnes de
+     * {@code BITS_CONSONNES} bits et un noyau de {@code BITS_NOYAU} bits.
+     */
+    public static final int LONGUEUR_VECTEUR = 37;
+
+    /**
+     * Le nombre de bits d'un groupe de consonnes dans le vecteur : pour chaque consonne, un bit de présence suivi des
+     * six bits de {@code API_Consonne.getCaracteristiques}.
+     */
+    private static final int BITS_CONSONNES = 14;
+
+    /**
+     * Le nombre de bits du noyau dans le vecteur : un bit de présence et les quatre bits de
+     * {@code API_Voyelle.getCaracteristiques} pour la semi-voyelle, puis les quatre bits de la voyelle.
+     */
+    private static final int BITS_NOYAU = 9;
+
     /**
      * Le groupe de consonne pour l'attaque de la syllabe.  S'il n'est pas présent, alors la valeur est à {@code null}.
      */
@@ -33,7 +95,11 @@ public class SyllabeFrancais {
 
     /**
      * Le nombre d'occurence d'un élément SyllabeFrancais.
+     *
+     * @deprecated une syllabe canonique est partagée par tous les textes, les occurrences sont comptées par
+     * {@code TexteSonore.compterOccurrences}.
      */
+    @Deprecated
     protected int compteur = 1;
 
 
@@ -85,6 +151,60 @@ public class SyllabeFrancais {
     }
 
 
+    /**
+     * Retourne la syllabe canonique égale à la syllabe formée des groupes donnés.
+     *
+     * Le même objet est retourné à chaque appel avec des groupes égaux, et ses groupes sont les groupes canoniques
+     * de {@code ConsonneFrancais.obtenir} et {@code VoyelleFrancais.obtenir}.  Une syllabe canonique ne doit pas
+     * être modifiée.
+     *
+     * @param attaque le groupe de consonne utilisé pour l'attaque, peut être {@code null}.
+     * @param noyau le groupe de voyelle utilisé pour la syllabe.  Ne doit pas être {@code null}.
+     * @param coda le groupe de consonne utilisé pour le coda, peut être {@code null}.
+     * @return la syllabe canonique.
+     */
+    public static SyllabeFrancais obtenir( ConsonneFrancais attaque, VoyelleFrancais noyau, ConsonneFrancais coda ) {
+        // Les groupes n'ont pas besoin d'être canoniques pour chercher la syllabe : equals et hashCode ne dépendent
+        // que de leurs consonnes et voyelles.
+        SyllabeFrancais resultat = SYLLABES.get( new SyllabeFrancais( attaque, noyau, coda ) );
+
+        return null == resultat ? ajouter( attaque, noyau, coda ) : resultat;
+    }
+
+
+    /**
+     * Retourne la syllabe canonique égale à une syllabe.
+     *
+     * @param syllabe la syllabe.  Ne doit pas être {@code null}.
+     * @return la syllabe canonique.
+     */
+    public static SyllabeFrancais obtenir( SyllabeFrancais syllabe ) {
+        SyllabeFrancais resultat = SYLLABES.get( syllabe );
+
+        return null == resultat ? ajouter( syllabe.attaque, syllabe.noyau, syllabe.coda ) : resultat;
+    }
+
+
+    /**
+     * Ajoute une syllabe canonique, formée des groupes canoniques égaux aux groupes donnés, si aucune syllabe égale
+     * n'a encore été ajoutée.
+     *
+     * @param attaque le groupe de consonne utilisé pour l'attaque, peut être {@code null}.
+     * @param noyau le groupe de voyelle utilisé pour la syllabe.  Ne doit pas être {@code null}.
+     * @param coda le groupe de consonne utilisé pour le coda, peut être {@code null}.
+     * @return la syllabe canonique, ajoutée par cet appel ou par un appel précédent.
+     */
+    private static SyllabeFrancais ajouter( ConsonneFrancais attaque, VoyelleFrancais noyau, ConsonneFrancais coda ) {
+        SyllabeFrancais candidate = new SyllabeFrancais(
+                null == attaque ? null : ConsonneFrancais.obtenir( attaque.consonne1, attaque.consonne2 ),
+                VoyelleFrancais.obtenir( noyau.semiVoyelle, noyau.voyelle, noyau.nasal ),
+                null == coda ? null : ConsonneFrancais.obtenir( coda.consonne1, coda.consonne2 ) );
+        SyllabeFrancais resultat = SYLLABES.putIfAbsent( candidate, candidate );
+
+        return null == resultat ? candidate : resultat;
+    }
+
+
     /**
      * Lit une syllabe dans le {@code Scanner}.
      *
@@ -92,7 +212,7 @@ public class SyllabeFrancais {
      * servira de noyau et finalement un autre groupe de consonne pour le coda.
      *
      * @param scanner le {@code Scanner} dans lequel la lecture est effectué.
-     * @return la voyelle lu.
+     * @return la syllabe canonique lue.
      * @exception NoSuchElementException s'il n'y a pas de {@code SyllabeFrancais} valide.
      * @exception IllegalStateException si le {@code Scanner} est fermé.
      */
@@ -114,7 +234,7 @@ public class SyllabeFrancais {
         }
 
 
-        return new SyllabeFrancais( attaque, noyau, coda );
+        return obtenir( attaque, noyau, coda );
     }
 
 
@@ -132,6 +252,16 @@ public class SyllabeFrancais {
     }
 
 
+    /**
+     * Calcule un code de hachage cohérent avec {@code equals}.
+     * @return le code de hachage.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * ( 31 * Objects.hashCode( attaque ) + Objects.hashCode( noyau ) ) + Objects.hashCode( coda );
+    }
+
+
     /**
      * retourne une chaîne de caractère composée des phonèmes de la syllabe.
      *
@@ -147,7 +277,9 @@ public class SyllabeFrancais {
     /**
      * retourne le nombre d'occurence d'un élément SyllabeFrancais.
      * @return le nombre d'occurence.
+     * @deprecated utiliser {@code TexteSonore.compterOccurrences}, qui est tenu à jour pour chaque texte.
      */
+    @Deprecated
     public int getCompteur() {
         return compteur;
     }
@@ -155,7 +287,9 @@ public class SyllabeFrancais {
     /**
      * modifie le nombre d'occurence d'un élément SyllabeFrancais.
      * @param compteur la valeur a affecter.
+     * @deprecated utiliser {@code TexteSonore.compterOccurrences}, qui est tenu à jour pour chaque texte.
      */
+    @Deprecated
     public void setCompteur(int compteur) {
         this.compteur = compteur;
     }
@@ -217,4 +351,131 @@ public class SyllabeFrancais {
                 calculerDistanceCoda(syllabe);
         return distance;
     }
+
+
+    /**
+     * Calcule la distance entre les deux SyllabeFrancais, en arrêtant le calcul dès qu'elle atteint un seuil.
+     *
+     * Le noyau est évalué en premier, puisque sa distance est doublée, puis l'attaque et le coda.  Utile pour
+     * chercher une distance minimale, où seules les distances plus petites que la meilleure trouvée comptent.
+     * @param syllabe le SyllabeFrancias à comparer.
+     * @param seuil la distance à partir de laquelle le calcul peut s'arrêter.
+     * @return la distance entre les deux instances si elle est plus petite que {@code seuil}, sinon une valeur
+     * plus grande ou égale à {@code seuil}.
+     */
+    public int calculerDistanceSyllabe (SyllabeFrancais syllabe, int seuil) {
+        int distance = calculerDistanceNoyau(syllabe);
+        if (distance < seuil) {
+            distance += calculerDistanceAttaque(syllabe);
+        }
+        if (distance < seuil) {
+            distance += calculerDistanceCoda(syllabe);
+        }
+        return distance;
+    }
+
+
+    /**
+     * Calcule la forme de la syllabe : la présence de l'attaque, du coda, de leur deuxième consonne et de la
+     * semi-voyelle du noyau, combinées avec les bits {@code FORME_*}.
+     *
+     * Deux syllabes de formes différentes ont au moins la distance donnée par {@code calculerBorneDistance}.
+     * @return la forme de la syllabe, entre {@code 0} et {@code NOMBRE_FORMES - 1}.
+     */
+    public int calculerForme () {
+        int forme = 0;
+        if (attaque != null) {
+            forme |= attaque.consonne2 == null ? FORME_ATTAQUE : FORME_ATTAQUE | FORME_ATTAQUE_DOUBLE;
+        }
+        if (coda != null) {
+            forme |= coda.consonne2 == null ? FORME_CODA : FORME_CODA | FORME_CODA_DOUBLE;
+        }
+        if (noyau.semiVoyelle != null) {
+            forme |= FORME_SEMI_VOYELLE;
+        }
+        return forme;
+    }
+
+
+    /**
+     * Retourne la plus petite distance possible entre deux syllabes selon leur forme.
+     * @param forme la forme d'une syllabe, donnée par {@code calculerForme}.
+     * @param autre la forme de l'autre syllabe.
+     * @return une borne inférieure de la distance entre toute syllabe de forme {@code forme} et toute syllabe de
+     * forme {@code autre}.
+     */
+    public static int calculerBorneDistance (int forme, int autre) {
+        return BORNES[forme * NOMBRE_FORMES + autre];
+    }
+
+
+    /**
+     * Calcule la borne de chaque paire de formes à partir des pénalités de {@code calculerDistanceSyllabe} : 12 pour
+     * une attaque ou un coda d'un seul côté, 6 pour une deuxième consonne d'un seul côté et 4, doublé avec le
+     * noyau, pour une semi-voyelle d'un seul côté.
+     *
+     * @return la table des bornes.
+     */
+    private static byte[] construireBornes () {
+        byte[] resultat = new byte[NOMBRE_FORMES * NOMBRE_FORMES];
+
+        for (int forme = 0; forme < NOMBRE_FORMES; ++forme) {
+            for (int autre = 0; autre < NOMBRE_FORMES; ++autre) {
+                int differences = forme ^ autre;
+                int borne = 0;
+                if ((differences & FORME_ATTAQUE) != 0) {
+                    borne += 12;
+                } else if ((differences & FORME_ATTAQUE_DOUBLE) != 0) {
+                    borne += 6;
+                }
+                if ((differences & FORME_CODA) != 0) {
+                    borne += 12;
+                } else if ((differences & FORME_CODA_DOUBLE) != 0) {
+                    borne += 6;
+                }
+                if ((differences & FORME_SEMI_VOYELLE) != 0) {
+                    borne += 2 * 4;
+                }
+                resultat[forme * NOMBRE_FORMES + autre] = (byte) borne;
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Calcule le vecteur de caractéristiques de la syllabe : les caractéristiques de chaque phonème, précédées d'un bit
+     * de présence pour les phonèmes qui peuvent manquer.  Deux syllabes proches ont des vecteurs qui diffèrent par peu
+     * de bits, ce qui permet de les regrouper par hachage.
+     *
+     * La nasalité n'est pas dans le vecteur, puisqu'elle ne compte pas dans {@code calculerDistanceSyllabe}.
+     * @return le vecteur, sur les {@code LONGUEUR_VECTEUR} bits de poids faible.
+     */
+    public long calculerVecteur () {
+        long vecteur = calculerVecteurConsonnes(attaque);
+        int semiVoyelle = noyau.semiVoyelle == null ? 0 : 1 << 4 | noyau.semiVoyelle.getCaracteristiques();
+        vecteur = vecteur << BITS_NOYAU | semiVoyelle << 4 | noyau.voyelle.getCaracteristiques();
+        vecteur = vecteur << BITS_CONSONNES | calculerVecteurConsonnes(coda);
+        return vecteur;
+    }
+
+
+    /**
+     * Calcule la partie du vecteur de caractéristiques d'un groupe de consonnes.
+     *
+     * @param consonnes le groupe de consonnes, peut être {@code null}.
+     * @return les {@code BITS_CONSONNES} bits du groupe.
+     */
+    private static long calculerVecteurConsonnes (ConsonneFrancais consonnes) {
+        long vecteur = 0;
+        if (consonnes != null) {
+            vecteur = 1 << 6 | consonnes.consonne1.getCaracteristiques();
+            vecteur <<= BITS_CONSONNES / 2;
+            if (consonnes.consonne2 != null) {
+                vecteur |= 1 << 6 | consonnes.consonne2.getCaracteristiques();
+            }
+        }
+        return vecteur;
+    }
 }
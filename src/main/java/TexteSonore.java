@@ -1,10 +1,23 @@
 import org.w3c.dom.Text;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 
@@ -12,6 +25,9 @@ import java.util.stream.Collectors;
  * Une classe pour contenir une suite de syllabe.
  *
  * Cette classe permet la gestion d'une suite de syllabe.
+ * Un index des syllabes distinctes est tenu à jour par toutes les méthodes qui modifient la suite, ce qui permet de
+ * connaître le nombre de syllabes différentes sans parcourir la suite.  L'index conserve aussi les positions de
+ * chaque syllabe, pour que {@code remplacerSyllabe} ne visite que les occurrences à remplacer.
  *
  * @see SyllabeFrancais
  */
@@ -24,6 +40,37 @@ public class TexteSonore extends ArrayList< SyllabeFrancais > {
 
     public static final int DISTANCE_MINIMALE = 43;
 
+
+    /**
+     * Les informations conservées dans l'index pour une syllabe distincte.
+     */
+    private static class Entree {
+        /**
+         * Le nombre d'occurrences de la syllabe dans la suite.  Toujours plus grand que {@code 0}.
+         */
+        int occurrences;
+
+        /**
+         * Les positions des occurrences de la syllabe, dans un ordre quelconque.  Valides seulement si
+         * {@code positionsAJour} est vrai.
+         */
+        final ListeEntiers positions = new ListeEntiers();
+    }
+
+
+    /**
+     * L'index des syllabes distinctes de la suite.  Une syllabe y est présente tant qu'elle a au moins une
+     * occurrence.
+     */
+    private HashMap< SyllabeFrancais, Entree > index = new HashMap<>();
+
+    /**
+     * Indique que les positions de l'index sont valides.  Les ajouts à la fin de la suite et {@code remplacerSyllabe}
+     * tiennent les positions à jour ; les autres modifications les invalident et elles sont reconstruites au
+     * prochain appel de {@code remplacerSyllabe}.
+     */
+    private boolean positionsAJour = true;
+
     /**
      * Construit une suite de syllabe vide.
      */
@@ -32,42 +79,436 @@ public class TexteSonore extends ArrayList< SyllabeFrancais > {
     /**
      * Construit une suite de syllabes à partir du contenu d'un fichier.
      *
+     * Le fichier doit être encodé en utf-8.
+     *
      * @param nomFichier Le nom du fichier qui contient la suite de syllabes.
      */
     public TexteSonore( String nomFichier ) {
-        File fichier = new File( nomFichier );
-        Scanner scanner = null;
+        try( FileChannel canal = FileChannel.open( Path.of( nomFichier ), StandardOpenOption.READ ) ) {
+            lire( new LecteurSyllabes( canal ) );
+        } catch( NoSuchFileException e ) {
+            Erreur.FICHIER_INEXISTANT.lancer( "\"" + nomFichier +"\"" );
+        } catch( IOException e ) {
+            Erreur.LECTURE_FICHIER.lancer( "\"" + nomFichier +"\"  " + e.getMessage() );
+        }
+    }
+
 
-        try{
-            scanner = new Scanner( fichier );
-        } catch( FileNotFoundException e ) {
+    /**
+     * Construit une suite de syllabes à partir du contenu d'un fichier projeté en mémoire.
+     *
+     * Les octets du fichier sont décodés directement dans la projection, ce qui convient aux fichiers trop gros pour
+     * être copiés sur le tas.  Le résultat est identique à celui du constructeur {@code TexteSonore( String )}.
+     *
+     * @param nomFichier Le nom du fichier qui contient la suite de syllabes.
+     * @return la suite de syllabes lue.
+     */
+    public static TexteSonore lireProjete( String nomFichier ) {
+        TexteSonore resultat = new TexteSonore();
+
+        try( FileChannel canal = FileChannel.open( Path.of( nomFichier ), StandardOpenOption.READ ) ) {
+            resultat.lire( LecteurSyllabes.projeter( canal, 0, canal.size() ) );
+        } catch( NoSuchFileException e ) {
             Erreur.FICHIER_INEXISTANT.lancer( "\"" + nomFichier +"\"" );
+        } catch( IOException e ) {
+            Erreur.LECTURE_FICHIER.lancer( "\"" + nomFichier +"\"  " + e.getMessage() );
         }
 
-        scanner.useDelimiter( "" );
-        lire( scanner );
-        scanner.close();
+        return resultat;
     }
 
 
     /**
-     * Lit une suite de syllabe dans le {@code Scanner}.
+     * Construit une suite de syllabes à partir du contenu d'un fichier, en lisant plusieurs morceaux en parallèle.
+     *
+     * Le résultat est identique à celui du constructeur {@code TexteSonore( String )}.
      *
-     * Consulte le {@code Scanner} pour lire une suite de syllabe séparé par le caractère {@code SEPARATEUR}.
+     * @see LectureParallele
+     * @param nomFichier Le nom du fichier qui contient la suite de syllabes.
+     * @param pool Le {@code ForkJoinPool} utilisé pour la lecture.
+     * @return la suite de syllabes lue.
+     */
+    public static TexteSonore lireEnParallele( String nomFichier, ForkJoinPool pool ) {
+        TexteSonore resultat = new TexteSonore();
+
+        try( FileChannel canal = FileChannel.open( Path.of( nomFichier ), StandardOpenOption.READ ) ) {
+            LectureParallele.lire( canal, pool, resultat );
+        } catch( NoSuchFileException e ) {
+            Erreur.FICHIER_INEXISTANT.lancer( "\"" + nomFichier +"\"" );
+        } catch( IOException e ) {
+            Erreur.LECTURE_FICHIER.lancer( "\"" + nomFichier +"\"  " + e.getMessage() );
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Construit une suite de syllabes à partir d'un fichier écrit par {@code ecrireBinaire}.
      *
-     * @param scanner le {@code Scanner} dans lequel la lecture est effectué.
-     * @return le groupe de consonne lu.
-     * @exception NoSuchElementException s'il n'y a pas de {@code API_Consonne} valide.
-     * @exception IllegalStateException si le {@code Scanner} est fermé.
+     * @see FormatBinaire
+     * @param nomFichier Le nom du fichier binaire.
+     * @return la suite de syllabes lue.
      */
-    private void lire( Scanner scanner ) {
-        try{
-            while( scanner.hasNext() ) {
-                add( SyllabeFrancais.lire( scanner ) );
-                scanner.next( SEPARATEUR );
+    public static TexteSonore lireBinaire( String nomFichier ) {
+        TexteSonore resultat = new TexteSonore();
+
+        try {
+            FormatBinaire.lire( Path.of( nomFichier ), resultat );
+        } catch( NoSuchFileException e ) {
+            Erreur.FICHIER_INEXISTANT.lancer( "\"" + nomFichier +"\"" );
+        } catch( IOException e ) {
+            Erreur.LECTURE_FICHIER.lancer( "\"" + nomFichier +"\"  " + e.getMessage() );
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Écrit la suite de syllabes dans un fichier binaire, qui pourra être relu par {@code lireBinaire}.
+     *
+     * @see FormatBinaire
+     * @param nomFichier Le nom du fichier à écrire.  Le fichier est remplacé s'il existe.
+     */
+    public void ecrireBinaire( String nomFichier ) {
+        try {
+            FormatBinaire.ecrire( this, Path.of( nomFichier ) );
+        } catch( IOException e ) {
+            Erreur.ECRITURE_FICHIER.lancer( "\"" + nomFichier +"\"  " + e.getMessage() );
+        }
+    }
+
+
+    /**
+     * Lit une suite de syllabe avec un {@code LecteurSyllabes}.
+     *
+     * Les syllabes sont ajoutées jusqu'à la fin du canal ou jusqu'au premier caractère invalide.
+     *
+     * @param lecteur le lecteur dans lequel la lecture est effectué.
+     * @throws IOException si la lecture du canal échoue.
+     */
+    private void lire( LecteurSyllabes lecteur ) throws IOException {
+        SyllabeFrancais syllabe = lecteur.lireSyllabe();
+
+        while( null != syllabe ) {
+            add( syllabe );
+            syllabe = lecteur.lireSyllabe();
+        }
+    }
+
+
+    /**
+     * Ajoute une syllabe à la fin de la suite.
+     *
+     * @param syllabe la syllabe à ajouter.
+     * @return {@code true}.
+     */
+    @Override
+    public boolean add( SyllabeFrancais syllabe ) {
+        indexer( syllabe, size() );
+        return super.add( syllabe );
+    }
+
+
+    /**
+     * Insère une syllabe dans la suite.
+     *
+     * @param position la position de la syllabe insérée.
+     * @param syllabe la syllabe à insérer.
+     */
+    @Override
+    public void add( int position, SyllabeFrancais syllabe ) {
+        positionsAJour = positionsAJour && size() == position;
+        super.add( position, syllabe );
+        indexer( syllabe, position );
+    }
+
+
+    /**
+     * Ajoute les syllabes d'une collection à la fin de la suite.
+     *
+     * @param syllabes les syllabes à ajouter.
+     * @return {@code true} si la suite a été modifiée.
+     */
+    @Override
+    public boolean addAll( Collection< ? extends SyllabeFrancais > syllabes ) {
+        int debut = size();
+        boolean resultat = super.addAll( syllabes );
+
+        for( int i = debut; i < size(); ++i ) {
+            indexer( get( i ), i );
+        }
+        return resultat;
+    }
+
+
+    /**
+     * Insère les syllabes d'une collection dans la suite.
+     *
+     * @param position la position de la première syllabe insérée.
+     * @param syllabes les syllabes à insérer.
+     * @return {@code true} si la suite a été modifiée.
+     */
+    @Override
+    public boolean addAll( int position, Collection< ? extends SyllabeFrancais > syllabes ) {
+        int taille = size();
+
+        positionsAJour = positionsAJour && taille == position;
+        boolean resultat = super.addAll( position, syllabes );
+
+        for( int i = position; i < position + size() - taille; ++i ) {
+            indexer( get( i ), i );
+        }
+        return resultat;
+    }
+
+
+    /**
+     * Remplace la syllabe à une position de la suite.
+     *
+     * @param position la position de la syllabe à remplacer.
+     * @param syllabe la nouvelle syllabe.
+     * @return la syllabe remplacée.
+     */
+    @Override
+    public SyllabeFrancais set( int position, SyllabeFrancais syllabe ) {
+        SyllabeFrancais resultat = super.set( position, syllabe );
+
+        desindexer( resultat );
+        indexer( syllabe, position );
+        return resultat;
+    }
+
+
+    /**
+     * Retire la syllabe à une position de la suite.
+     *
+     * @param position la position de la syllabe à retirer.
+     * @return la syllabe retirée.
+     */
+    @Override
+    public SyllabeFrancais remove( int position ) {
+        SyllabeFrancais resultat = super.remove( position );
+
+        desindexer( resultat );
+        return resultat;
+    }
+
+
+    /**
+     * Retire la première occurrence d'une syllabe.
+     *
+     * @param o la syllabe à retirer.
+     * @return {@code true} si une occurrence a été retirée.
+     */
+    @Override
+    public boolean remove( Object o ) {
+        boolean resultat = super.remove( o );
+
+        if( resultat ) {
+            desindexer( (SyllabeFrancais) o );
+        }
+        return resultat;
+    }
+
+
+    /**
+     * Retire toutes les occurrences des syllabes d'une collection.  L'index est reconstruit si la suite change.
+     *
+     * @param c les syllabes à retirer.
+     * @return {@code true} si la suite a été modifiée.
+     */
+    @Override
+    public boolean removeAll( Collection< ? > c ) {
+        return reindexerSi( super.removeAll( c ) );
+    }
+
+
+    /**
+     * Garde seulement les occurrences des syllabes d'une collection.  L'index est reconstruit si la suite change.
+     *
+     * @param c les syllabes à garder.
+     * @return {@code true} si la suite a été modifiée.
+     */
+    @Override
+    public boolean retainAll( Collection< ? > c ) {
+        return reindexerSi( super.retainAll( c ) );
+    }
+
+
+    /**
+     * Retire les syllabes qui satisfont un filtre.  L'index est reconstruit si la suite change.
+     *
+     * @param filtre le filtre des syllabes à retirer.
+     * @return {@code true} si la suite a été modifiée.
+     */
+    @Override
+    public boolean removeIf( Predicate< ? super SyllabeFrancais > filtre ) {
+        return reindexerSi( super.removeIf( filtre ) );
+    }
+
+
+    /**
+     * Remplace chaque syllabe par le résultat d'un opérateur, puis reconstruit l'index.
+     *
+     * @param operateur l'opérateur appliqué à chaque syllabe.
+     */
+    @Override
+    public void replaceAll( UnaryOperator< SyllabeFrancais > operateur ) {
+        super.replaceAll( operateur );
+        reindexerSi( true );
+    }
+
+
+    /**
+     * Trie la suite.  Les syllabes ne changent pas, seules les positions de l'index ne sont plus à jour.
+     *
+     * @param comparateur le comparateur utilisé pour le tri.
+     */
+    @Override
+    public void sort( Comparator< ? super SyllabeFrancais > comparateur ) {
+        super.sort( comparateur );
+        positionsAJour = false;
+    }
+
+
+    /**
+     * Retire toutes les syllabes de la suite.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        index.clear();
+        positionsAJour = true;
+    }
+
+
+    /**
+     * Retire les syllabes d'une plage de positions.
+     *
+     * @param debut la position de la première syllabe retirée.
+     * @param fin la position qui suit la dernière syllabe retirée.
+     */
+    @Override
+    protected void removeRange( int debut, int fin ) {
+        for( int i = debut; i < fin; ++i ) {
+            desindexer( get( i ) );
+        }
+        super.removeRange( debut, fin );
+    }
+
+
+    /**
+     * Retourne une vue d'une partie de la suite.
+     *
+     * Les modifications faites par la vue passent par les méthodes de cette classe, ce qui garde l'index à jour.
+     *
+     * @param debut la position du début de la vue, incluse.
+     * @param fin la position de la fin de la vue, exclue.
+     * @return la vue.
+     */
+    @Override
+    public List< SyllabeFrancais > subList( int debut, int fin ) {
+        return new AbstractList< SyllabeFrancais >() {
+            @Override
+            public SyllabeFrancais get( int position ) {
+                return TexteSonore.this.get( position );
+            }
+
+            @Override
+            public int size() {
+                return TexteSonore.this.size();
+            }
+
+            @Override
+            public SyllabeFrancais set( int position, SyllabeFrancais syllabe ) {
+                return TexteSonore.this.set( position, syllabe );
+            }
+
+            @Override
+            public void add( int position, SyllabeFrancais syllabe ) {
+                TexteSonore.this.add( position, syllabe );
+                ++modCount;
+            }
+
+            @Override
+            public SyllabeFrancais remove( int position ) {
+                ++modCount;
+                return TexteSonore.this.remove( position );
+            }
+
+            @Override
+            protected void removeRange( int debutVue, int finVue ) {
+                ++modCount;
+                TexteSonore.this.removeRange( debutVue, finVue );
+            }
+        }.subList( debut, fin );
+    }
+
+
+    /**
+     * Construit une copie de la suite, avec son propre index.
+     *
+     * @return la copie.
+     */
+    @Override
+    public TexteSonore clone() {
+        TexteSonore resultat = (TexteSonore) super.clone();
+
+        resultat.index = new HashMap<>();
+        resultat.reindexerSi( true );
+        return resultat;
+    }
+
+
+    /**
+     * Ajoute une occurrence d'une syllabe dans l'index.
+     *
+     * @param syllabe la syllabe.
+     * @param position la position de l'occurrence, conservée si les positions sont à jour.
+     */
+    private void indexer( SyllabeFrancais syllabe, int position ) {
+        Entree entree = index.computeIfAbsent( syllabe, s -> new Entree() );
+
+        ++entree.occurrences;
+        if( positionsAJour ) {
+            entree.positions.ajouter( position );
+        }
+    }
+
+
+    /**
+     * Retire une occurrence d'une syllabe de l'index.  La syllabe est retirée de l'index à sa dernière occurrence.
+     * Les positions de l'index ne sont plus à jour.
+     *
+     * @param syllabe la syllabe.
+     */
+    private void desindexer( SyllabeFrancais syllabe ) {
+        Entree entree = index.get( syllabe );
+
+        positionsAJour = false;
+        if( 0 == --entree.occurrences ) {
+            index.remove( syllabe );
+        }
+    }
+
+
+    /**
+     * Reconstruit l'index et ses positions à partir de la suite si elle a été modifiée.
+     *
+     * @param modifie {@code true} si la suite a été modifiée.
+     * @return la valeur de {@code modifie}.
+     */
+    private boolean reindexerSi( boolean modifie ) {
+        if( modifie ) {
+            index.clear();
+            positionsAJour = true;
+            for( int i = 0; i < size(); ++i ) {
+                indexer( get( i ), i );
             }
-        } catch( NoSuchElementException e ) {
         }
+        return modifie;
     }
 
 
@@ -82,59 +523,169 @@ public class TexteSonore extends ArrayList< SyllabeFrancais > {
     }
 
 
+    /**
+     * Écrit la suite de syllabe en symboles de l'API, encodée en utf-8, dans un canal.
+     *
+     * Le texte écrit est identique à celui de {@code toString}, mais il n'est jamais construit au complet en mémoire.
+     *
+     * @see EcrivainSyllabes
+     * @param canal le canal qui reçoit le texte.  N'est pas fermé.
+     * @throws IOException si l'écriture échoue.
+     */
+    public void ecrire( WritableByteChannel canal ) throws IOException {
+        ecrire( new EcrivainSyllabes( canal ) );
+    }
+
+
+    /**
+     * Écrit la suite de syllabe en symboles de l'API dans un {@code Writer}.
+     *
+     * Le texte écrit est identique à celui de {@code toString}, mais il n'est jamais construit au complet en mémoire.
+     *
+     * @see EcrivainSyllabes
+     * @param writer le {@code Writer} qui reçoit le texte.  N'est pas fermé.
+     * @throws IOException si l'écriture échoue.
+     */
+    public void ecrire( Writer writer ) throws IOException {
+        ecrire( new EcrivainSyllabes( writer ) );
+    }
+
+
+    /**
+     * Écrit toutes les syllabes avec un {@code EcrivainSyllabes}, puis vide son tampon.
+     *
+     * @param ecrivain l'écrivain utilisé.
+     * @throws IOException si l'écriture échoue.
+     */
+    private void ecrire( EcrivainSyllabes ecrivain ) throws IOException {
+        for( SyllabeFrancais syllabe : this ) {
+            ecrivain.ecrire( syllabe );
+        }
+        ecrivain.vider();
+    }
+
+
     /**
      * Calcule le nombre de syllabes différentes dans un TexteSonore.
+     *
+     * Le nombre est lu dans l'index des syllabes distinctes, sans parcourir la suite.
      * @return le nombre de syllabes différentes.
      */
     public int calculerNombreDeSons () {
-        int nombreDeSons = 0;
-        ArrayList<SyllabeFrancais> nombreSyllabeDifferentes = new ArrayList<>();
-        for (int i = 0; i < size(); i++) {
-            if (!nombreSyllabeDifferentes.contains(get(i))) {
-                nombreSyllabeDifferentes.add(get(i));
-            }
-        }
-    return nombreSyllabeDifferentes.size();
+        return index.size();
     }
 
 
     /**
      * Trouve les deux syllabe ayant la plus petite distance.
+     *
+     * La recherche se fait parmi les syllabes distinctes, prises dans l'ordre de leur première occurrence, ce qui
+     * donne la même paire que la recherche parmi toutes les paires de positions.
+     * @see RecherchePaireProche
      * @return un tableaux de deux syllabes.
      */
     public SyllabeFrancais[] trouverSyllabeForteFaible () {
+        return trouverSyllabeForteFaible( null );
+    }
+
+
+    /**
+     * Trouve les deux syllabe ayant la plus petite distance, en répartissant la recherche entre les fils d'exécution
+     * d'un {@code ForkJoinPool}.  Le résultat est le même que celui de la recherche séquentielle.
+     * @see RecherchePaireProche
+     * @param pool le {@code ForkJoinPool} qui exécute la recherche, ou {@code null} pour une recherche séquentielle.
+     * @return un tableaux de deux syllabes.
+     */
+    public SyllabeFrancais[] trouverSyllabeForteFaible (ForkJoinPool pool) {
         SyllabeFrancais [] syllabes = new SyllabeFrancais[2];
-        int distance = DISTANCE_MINIMALE;
+        SyllabeFrancais [] distinctes = trouverSyllabesDistinctes();
         syllabes[0] = get(0);
         syllabes[1] = get(1);
-        for (int i = 0; i < size(); i++) {
-            for (int j = i + 1; j < size(); j++) {
-                if (!(get(i).equals(get(j))) && get(i).calculerDistanceSyllabe(get(j)) < distance) {
-                    distance = get(i).calculerDistanceSyllabe(get(j));
-                    syllabes[0] = get(i);
-                    syllabes[1] = get(j);
-                }
-            }
 
+        int[] paire = null == pool
+                ? RecherchePaireProche.trouver( distinctes, distinctes.length )
+                : RecherchePaireProche.trouver( distinctes, distinctes.length, pool );
+
+        if( paire[ RecherchePaireProche.DISTANCE ] < DISTANCE_MINIMALE ) {
+            syllabes[0] = distinctes[ paire[ RecherchePaireProche.PREMIERE ] ];
+            syllabes[1] = distinctes[ paire[ RecherchePaireProche.SECONDE ] ];
         }
         return syllabes;
     }
 
+
+    /**
+     * Construit le tableau des syllabes distinctes de la suite, dans l'ordre de leur première occurrence.
+     *
+     * Le parcours de la suite s'arrête dès que toutes les syllabes de l'index ont été trouvées.
+     * @return le tableau des syllabes distinctes.
+     */
+    public SyllabeFrancais[] trouverSyllabesDistinctes () {
+        SyllabeFrancais[] resultat = new SyllabeFrancais[ index.size() ];
+        HashSet< SyllabeFrancais > vues = new HashSet<>();
+
+        for( int i = 0, nombre = 0; nombre < resultat.length; ++i ) {
+            if( vues.add( get( i ) ) ) {
+                resultat[ nombre++ ] = get( i );
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Compte les occurrences d'une syllabe dans la suite.
+     *
+     * Le nombre est lu dans l'index des syllabes distinctes, sans parcourir la suite.
+     * @param syllabe la syllabe à compter.
+     * @return le nombre d'occurrences, {@code 0} si la syllabe n'est pas dans la suite.
+     */
+    public int compterOccurrences (SyllabeFrancais syllabe) {
+        Entree entree = index.get( syllabe );
+
+        return null == entree ? 0 : entree.occurrences;
+    }
+
+
+    /**
+     * Construit la table des fréquences de la suite.
+     * @return une nouvelle table qui associe chaque syllabe distincte à son nombre d'occurrences.
+     */
+    public Map< SyllabeFrancais, Integer > calculerFrequences () {
+        Map< SyllabeFrancais, Integer > resultat = new HashMap<>();
+
+        index.forEach( ( syllabe, entree ) -> resultat.put( syllabe, entree.occurrences ) );
+        return resultat;
+    }
+
+
+    /**
+     * Trouve les syllabes qui ont le plus d'occurrences.
+     *
+     * Les syllabes sont placées en ordre décroissant d'occurrences.  Les syllabes ayant le même nombre
+     * d'occurrences sont placées dans l'ordre de leurs symboles.
+     * @param nombre le nombre maximal de syllabes retournées.
+     * @return une nouvelle liste d'au plus {@code nombre} syllabes distinctes.
+     */
+    public List< SyllabeFrancais > trouverPlusFrequentes (int nombre) {
+        Comparator< SyllabeFrancais > ordre = Comparator.comparingInt( this::compterOccurrences ).reversed();
+
+        return index.keySet().stream()
+                .sorted( ordre.thenComparing( SyllabeFrancais::toString ) )
+                .limit( nombre )
+                .collect( Collectors.toList() );
+    }
+
+
     /**
      * Calcule les occurence de deux syllables dans un TexteSonore.
+     *
+     * Les occurrences sont lues dans l'index des syllabes distinctes.
      * @param syllabes les deux syllabe dont on veut calculer les occurences.
      * @return un tableau de deux syllable, la syllabe 0 est celle ayant le plsu grand nombre d'occurences.
      */
     public SyllabeFrancais[] trierSyllabeParOccurence (SyllabeFrancais [] syllabes) {
-        int compteSyllabe0 = 0;
-        int compteSyllabe1 = 0;
-        for (int i = 0; i < size(); i++) {
-            if (get(i).equals(syllabes[0])) {
-                compteSyllabe0++;
-            } else if (get(i).equals(syllabes[1])) {
-                compteSyllabe1++;
-            }
-        }
+        int compteSyllabe0 = compterOccurrences(syllabes[0]);
+        int compteSyllabe1 = compterOccurrences(syllabes[1]);
         if (compteSyllabe0 < compteSyllabe1) {
             SyllabeFrancais syllabeTemp = syllabes[0];
             syllabes[0] = syllabes[1];
@@ -145,12 +696,26 @@ public class TexteSonore extends ArrayList< SyllabeFrancais > {
 
     /**
      * Remplace une syllabe par une autre syllabe.
+     *
+     * Seules les positions de la syllabe 1 conservées dans l'index sont visitées.  Ses positions sont ensuite
+     * ajoutées à celles de la syllabe 0.
      * @param syllabes un tableau de 2 syllabe, la syllabe 1 est remplacé par la syllabe 0.
      */
     public void remplacerSyllabe (SyllabeFrancais [] syllabes) {
-        for (int i= 0; i < size() ; i++) {
-            if (get(i).equals(syllabes[1])) {
-                set(i, syllabes[0]);
+        reindexerSi( !positionsAJour );
+
+        Entree ancienne = index.get( syllabes[1] );
+
+        if( null != ancienne ) {
+            for( int i = 0; i < ancienne.positions.taille(); ++i ) {
+                super.set( ancienne.positions.get( i ), syllabes[0] );
+            }
+            if( !syllabes[0].equals( syllabes[1] ) ) {
+                Entree nouvelle = index.computeIfAbsent( syllabes[0], s -> new Entree() );
+
+                nouvelle.occurrences += ancienne.occurrences;
+                nouvelle.positions.ajouterTout( ancienne.positions );
+                index.remove( syllabes[1] );
             }
         }
     }
@@ -0,0 +1,359 @@
+import java.util.Arrays;
+import java.util.Collection;
+
+
+/**
+ * Une suite de syllabe qui conserve, pour chaque syllabe du texte, l'indice de la syllabe dans un vocabulaire.
+ *
+ * Chaque syllabe distincte est conservée une seule fois, sous forme compacte, dans le vocabulaire.  Le texte
+ * lui-même n'est qu'un tableau d'entiers, ce qui réduit une syllabe du texte à quatre octets et permet des
+ * parcours contigus en mémoire.  Les opérations publiques sont les mêmes que celles de {@code TexteSonore}, avec les
+ * mêmes résultats.
+ *
+ * @see TexteSonore
+ * @see SyllabeCompacte
+ */
+public class TexteSonoreCompact {
+    /**
+     * La capacité initiale des tableaux.
+     */
+    private static final int CAPACITE_INITIALE = 16;
+
+    /**
+     * Valeur d'une case vide dans la table de hachage du vocabulaire.
+     */
+    private static final int VIDE = -1;
+
+    /**
+     * La forme compacte de chaque syllabe du vocabulaire, dans l'ordre de leur ajout.
+     */
+    private long[] vocabulaire = new long[ CAPACITE_INITIALE ];
+
+    /**
+     * Les syllabes du vocabulaire, construites une seule fois pour être retournées par {@code get}.
+     */
+    private SyllabeFrancais[] instances = new SyllabeFrancais[ CAPACITE_INITIALE ];
+
+    /**
+     * Le nombre d'occurrences dans le texte de chaque syllabe du vocabulaire.
+     */
+    private int[] occurrences = new int[ CAPACITE_INITIALE ];
+
+    /**
+     * Le nombre de syllabes dans le vocabulaire.
+     */
+    private int tailleVocabulaire = 0;
+
+    /**
+     * Table de hachage à adressage ouvert qui associe une forme compacte à son indice dans le vocabulaire.  Sa
+     * taille est une puissance de deux, au moins le double de la taille du vocabulaire.
+     */
+    private int[] table = nouvelleTable( 2 * CAPACITE_INITIALE );
+
+    /**
+     * L'indice dans le vocabulaire de chaque syllabe du texte.
+     */
+    private int[] jetons = new int[ CAPACITE_INITIALE ];
+
+    /**
+     * Le nombre de syllabes dans le texte.
+     */
+    private int taille = 0;
+
+    /**
+     * Le nombre de syllabes du vocabulaire qui apparaissent au moins une fois dans le texte.
+     */
+    private int nombreDeSons = 0;
+
+
+    /**
+     * Construit une suite de syllabe vide.
+     */
+    public TexteSonoreCompact() {}
+
+
+    /**
+     * Construit une suite de syllabe contenant les syllabes d'une collection, dans le même ordre.
+     *
+     * @param syllabes les syllabes à ajouter, par exemple un {@code TexteSonore}.
+     */
+    public TexteSonoreCompact( Collection< SyllabeFrancais > syllabes ) {
+        jetons = new int[ Math.max( CAPACITE_INITIALE, syllabes.size() ) ];
+        for( SyllabeFrancais syllabe : syllabes ) {
+            add( syllabe );
+        }
+    }
+
+
+    /**
+     * Ajoute une syllabe à la fin du texte.
+     *
+     * @param syllabe la syllabe à ajouter.  Ne doit pas être {@code null}.
+     */
+    public void add( SyllabeFrancais syllabe ) {
+        if( taille == jetons.length ) {
+            jetons = Arrays.copyOf( jetons, 2 * taille );
+        }
+
+        int indice = indexer( syllabe );
+
+        jetons[ taille++ ] = indice;
+        if( 0 == occurrences[ indice ]++ ) {
+            ++nombreDeSons;
+        }
+    }
+
+
+    /**
+     * Retourne une syllabe du texte.
+     *
+     * @param position la position de la syllabe dans le texte.
+     * @return la syllabe.  La même instance est retournée pour toutes les occurrences d'une syllabe.
+     * @exception IndexOutOfBoundsException si la position n'est pas dans le texte.
+     */
+    public SyllabeFrancais get( int position ) {
+        if( position < 0 || position >= taille ) {
+            throw new IndexOutOfBoundsException( position );
+        }
+        return instances[ jetons[ position ] ];
+    }
+
+
+    /**
+     * Retourne le nombre de syllabes dans le texte.
+     *
+     * @return le nombre de syllabes.
+     */
+    public int size() {
+        return taille;
+    }
+
+
+    /**
+     * Construit un {@code TexteSonore} contenant les mêmes syllabes.
+     *
+     * @return le nouveau texte.
+     */
+    public TexteSonore versTexteSonore() {
+        TexteSonore resultat = new TexteSonore();
+
+        resultat.ensureCapacity( taille );
+        for( int i = 0; i < taille; ++i ) {
+            resultat.add( instances[ jetons[ i ] ] );
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Construit une chaîne de caractères contenant la suite de syllabe représenté par les symboles de l'API.
+     *
+     * @return la chaîne construite.  S'il n'y a pas de syllabe dans la suite, alors la chaîne sera vide.
+     */
+    @Override
+    public String toString() {
+        StringBuilder resultat = new StringBuilder();
+
+        for( int i = 0; i < taille; ++i ) {
+            if( 0 != i ) {
+                resultat.append( TexteSonore.SEPARATEUR );
+            }
+            resultat.append( instances[ jetons[ i ] ] );
+        }
+
+        return resultat.toString();
+    }
+
+
+    /**
+     * Calcule le nombre de syllabes différentes dans le texte.
+     *
+     * @return le nombre de syllabes différentes.
+     */
+    public int calculerNombreDeSons() {
+        return nombreDeSons;
+    }
+
+
+    /**
+     * Trouve les deux syllabe ayant la plus petite distance.
+     *
+     * Le résultat est le même que celui de {@code TexteSonore.trouverSyllabeForteFaible} : la première paire
+     * trouvée en parcourant les positions du texte.  Cette paire est cherchée parmi les syllabes distinctes, prises
+     * dans l'ordre de leur première occurrence, ce qui donne la même paire sans comparer chaque couple de positions.
+     *
+     * @return un tableaux de deux syllabes.
+     */
+    public SyllabeFrancais[] trouverSyllabeForteFaible() {
+        SyllabeFrancais[] resultat = new SyllabeFrancais[]{ get( 0 ), get( 1 ) };
+        int[] ordre = new int[ nombreDeSons ];
+        boolean[] vu = new boolean[ tailleVocabulaire ];
+        int nombre = 0;
+
+        for( int i = 0; i < taille && nombre < ordre.length; ++i ) {
+            if( !vu[ jetons[ i ] ] ) {
+                vu[ jetons[ i ] ] = true;
+                ordre[ nombre++ ] = jetons[ i ];
+            }
+        }
+
+        int distance = TexteSonore.DISTANCE_MINIMALE;
+
+        for( int i = 0; i < nombre; ++i ) {
+            long syllabe = vocabulaire[ ordre[ i ] ];
+
+            for( int j = i + 1; j < nombre; ++j ) {
+                int candidate = SyllabeCompacte.calculerDistance( syllabe, vocabulaire[ ordre[ j ] ] );
+
+                if( candidate < distance ) {
+                    distance = candidate;
+                    resultat[ 0 ] = instances[ ordre[ i ] ];
+                    resultat[ 1 ] = instances[ ordre[ j ] ];
+                }
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Place en premier la syllabe qui a le plus d'occurrences dans le texte.
+     *
+     * @param syllabes les deux syllabe dont on veut comparer les occurences.
+     * @return un tableau de deux syllable, la syllabe 0 est celle ayant le plus grand nombre d'occurences.
+     */
+    public SyllabeFrancais[] trierSyllabeParOccurence( SyllabeFrancais[] syllabes ) {
+        if( compterOccurrences( syllabes[ 0 ] ) < compterOccurrences( syllabes[ 1 ] ) ) {
+            SyllabeFrancais syllabeTemp = syllabes[ 0 ];
+            syllabes[ 0 ] = syllabes[ 1 ];
+            syllabes[ 1 ] = syllabeTemp;
+        }
+        return syllabes;
+    }
+
+
+    /**
+     * Remplace une syllabe par une autre syllabe.
+     *
+     * @param syllabes un tableau de 2 syllabe, la syllabe 1 est remplacé par la syllabe 0.
+     */
+    public void remplacerSyllabe( SyllabeFrancais[] syllabes ) {
+        int ancienne = chercher( SyllabeCompacte.encoder( syllabes[ 1 ] ) );
+
+        if( VIDE != ancienne && 0 != occurrences[ ancienne ] ) {
+            int nouvelle = indexer( syllabes[ 0 ] );
+
+            if( nouvelle != ancienne ) {
+                for( int i = 0; i < taille; ++i ) {
+                    if( jetons[ i ] == ancienne ) {
+                        jetons[ i ] = nouvelle;
+                    }
+                }
+                if( 0 == occurrences[ nouvelle ] ) {
+                    ++nombreDeSons;
+                }
+                occurrences[ nouvelle ] += occurrences[ ancienne ];
+                occurrences[ ancienne ] = 0;
+                --nombreDeSons;
+            }
+        }
+    }
+
+
+    /**
+     * Compte les occurrences d'une syllabe dans le texte.
+     *
+     * @param syllabe la syllabe à compter.
+     * @return le nombre d'occurrences.
+     */
+    private int compterOccurrences( SyllabeFrancais syllabe ) {
+        int indice = chercher( SyllabeCompacte.encoder( syllabe ) );
+
+        return VIDE == indice ? 0 : occurrences[ indice ];
+    }
+
+
+    /**
+     * Retourne l'indice d'une syllabe dans le vocabulaire, en l'ajoutant au vocabulaire au besoin.
+     *
+     * @param syllabe la syllabe.
+     * @return l'indice de la syllabe dans le vocabulaire.
+     */
+    private int indexer( SyllabeFrancais syllabe ) {
+        long compacte = SyllabeCompacte.encoder( syllabe );
+        int resultat = chercher( compacte );
+
+        if( VIDE == resultat ) {
+            if( tailleVocabulaire == vocabulaire.length ) {
+                vocabulaire = Arrays.copyOf( vocabulaire, 2 * tailleVocabulaire );
+                instances = Arrays.copyOf( instances, 2 * tailleVocabulaire );
+                occurrences = Arrays.copyOf( occurrences, 2 * tailleVocabulaire );
+            }
+            if( 2 * ( tailleVocabulaire + 1 ) > table.length ) {
+                table = nouvelleTable( 2 * table.length );
+                for( int i = 0; i < tailleVocabulaire; ++i ) {
+                    table[ caseLibre( vocabulaire[ i ] ) ] = i;
+                }
+            }
+
+            resultat = tailleVocabulaire++;
+            vocabulaire[ resultat ] = compacte;
+            instances[ resultat ] = syllabe;
+            table[ caseLibre( compacte ) ] = resultat;
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Cherche une forme compacte dans le vocabulaire.
+     *
+     * @param compacte la forme compacte à chercher.
+     * @return l'indice de la syllabe dans le vocabulaire, ou {@code VIDE} si elle n'y est pas.
+     */
+    private int chercher( long compacte ) {
+        int masque = table.length - 1;
+        int position = SyllabeCompacte.hacher( compacte ) & masque;
+
+        while( VIDE != table[ position ] && vocabulaire[ table[ position ] ] != compacte ) {
+            position = ( position + 1 ) & masque;
+        }
+
+        return table[ position ];
+    }
+
+
+    /**
+     * Cherche la case de la table où placer une forme compacte absente de la table.
+     *
+     * @param compacte la forme compacte.
+     * @return la position de la première case vide.
+     */
+    private int caseLibre( long compacte ) {
+        int masque = table.length - 1;
+        int position = SyllabeCompacte.hacher( compacte ) & masque;
+
+        while( VIDE != table[ position ] ) {
+            position = ( position + 1 ) & masque;
+        }
+
+        return position;
+    }
+
+
+    /**
+     * Construit une table de hachage vide.
+     *
+     * @param taille la taille de la table, une puissance de deux.
+     * @return la table remplie de {@code VIDE}.
+     */
+    private static int[] nouvelleTable( int taille ) {
+        int[] resultat = new int[ taille ];
+
+        Arrays.fill( resultat, VIDE );
+        return resultat;
+    }
+}
@@ -4,9 +4,17 @@
 public class Textes {
     public static final String MSSG_DEMANDE_NOMFICHIER = "Entrez le nom du fichier contenant le texte de depart : ";
     public static final String MSSG_DEMANDE_NOMBRE_SYLLABE = "Entrez le nombre de syllabes a obtenir : ";
+    public static final String MSSG_RAPPORT_LOTS = "Reduction par lots : %d tours pour %d fusions, distance totale %d.";
+    public static final String MSSG_RAPPORT_LOTS_EXACT = "Reduction exacte : distance totale %d, %d syllabes sur %d "
+            + "differentes de la reduction par lots.";
+    public static final String MSSG_RAPPORT_APPROXIMATIF = "Reduction approximative : %d recherches, %d reconstructions "
+            + "des tables, %d paires plus proches manquees sur %d recherches verifiees.";
 
     public static final String MSSG_ERREUR = "Erreur : ";
     public static final String MSSG_ERREUR_FICHIER_INEXISTANT = "le fichier n'existe pas.";
+    public static final String MSSG_ERREUR_LECTURE_FICHIER = "le fichier n'a pas pu etre lu.";
+    public static final String MSSG_ERREUR_ECRITURE_FICHIER = "le fichier n'a pas pu etre ecrit.";
+    public static final String MSSG_ERREUR_OPTION_INVALIDE = "l'option n'est pas reconnue.";
     public static final String MSSG_ERREUR_NOMBRE_SYLLABE = "le nombre de syllabe minimal devrait plus grand que "
             + Constantes.MIN_NOMBRE_SYLLABE + ".";
 }
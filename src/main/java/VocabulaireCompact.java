@@ -0,0 +1,257 @@
+/**
+ * Un vocabulaire de syllabes rangé en tableaux parallèles d'entiers, un tableau par phonème (structure de tableaux).
+ *
+ * Chaque phonème est conservé par ses caractéristiques ({@code API_Consonne.getCaracteristiques} ou
+ * {@code API_Voyelle.getCaracteristiques}), avec un bit de présence pour les phonèmes qui peuvent manquer.  Un phonème
+ * absent vaut {@code 0}.  La distance entre deux phonèmes présents est le nombre de caractéristiques différentes, ce
+ * qui permet de calculer {@code SyllabeFrancais.calculerDistanceSyllabe} avec des opérations sur les bits, sans
+ * suivre de références ni faire de branchements.  {@code calculerDistances} calcule ainsi la distance entre une
+ * syllabe et toute une plage du vocabulaire, dans une boucle simple que le compilateur JIT peut vectoriser.
+ *
+ * Les syllabes sont rangées par forme ({@code SyllabeFrancais.calculerForme}), puis dans leur ordre d'origine, pour
+ * que chaque forme occupe une plage contiguë des tableaux.
+ *
+ * @see SyllabeFrancais
+ * @see RecherchePaireProche
+ */
+public class VocabulaireCompact {
+    /**
+     * Bit de présence d'une consonne.
+     */
+    private static final int CONSONNE_PRESENTE = 1 << 6;
+
+    /**
+     * Masque des caractéristiques d'une consonne.
+     */
+    private static final int CARACTERISTIQUES_CONSONNE = CONSONNE_PRESENTE - 1;
+
+    /**
+     * Bit de présence d'une semi-voyelle.
+     */
+    private static final int VOYELLE_PRESENTE = 1 << 4;
+
+    /**
+     * Masque des caractéristiques d'une voyelle.
+     */
+    private static final int CARACTERISTIQUES_VOYELLE = VOYELLE_PRESENTE - 1;
+
+
+    /**
+     * L'indice d'origine de chaque syllabe.
+     */
+    private final int[] indices;
+
+    /**
+     * La première consonne de l'attaque de chaque syllabe.
+     */
+    private final int[] attaques1;
+
+    /**
+     * La deuxième consonne de l'attaque de chaque syllabe.
+     */
+    private final int[] attaques2;
+
+    /**
+     * La semi-voyelle du noyau de chaque syllabe.
+     */
+    private final int[] semiVoyelles;
+
+    /**
+     * La voyelle du noyau de chaque syllabe, sans bit de présence.
+     */
+    private final int[] voyelles;
+
+    /**
+     * La première consonne du coda de chaque syllabe.
+     */
+    private final int[] codas1;
+
+    /**
+     * La deuxième consonne du coda de chaque syllabe.
+     */
+    private final int[] codas2;
+
+    /**
+     * Le début de la plage de chaque forme, suivi de la fin de la dernière plage.
+     */
+    private final int[] debutsFormes = new int[ SyllabeFrancais.NOMBRE_FORMES + 1 ];
+
+
+    /**
+     * Range une plage de syllabes.
+     *
+     * @param syllabes des syllabes.
+     * @param debut l'indice de la première syllabe à ranger.
+     * @param fin l'indice qui suit la dernière syllabe à ranger.
+     */
+    public VocabulaireCompact( SyllabeFrancais[] syllabes, int debut, int fin ) {
+        int taille = Math.max( 0, fin - debut );
+        int[] formes = new int[ taille ];
+
+        indices = new int[ taille ];
+        attaques1 = new int[ taille ];
+        attaques2 = new int[ taille ];
+        semiVoyelles = new int[ taille ];
+        voyelles = new int[ taille ];
+        codas1 = new int[ taille ];
+        codas2 = new int[ taille ];
+
+        for( int k = 0; k < taille; ++k ) {
+            formes[ k ] = syllabes[ debut + k ].calculerForme();
+            ++debutsFormes[ formes[ k ] + 1 ];
+        }
+        for( int forme = 0; forme < SyllabeFrancais.NOMBRE_FORMES; ++forme ) {
+            debutsFormes[ forme + 1 ] += debutsFormes[ forme ];
+        }
+
+        int[] suivantes = debutsFormes.clone();
+
+        for( int k = 0; k < taille; ++k ) {
+            int position = suivantes[ formes[ k ] ]++;
+            SyllabeFrancais syllabe = syllabes[ debut + k ];
+
+            indices[ position ] = debut + k;
+            attaques1[ position ] = null == syllabe.attaque ? 0 : encoder( syllabe.attaque.consonne1 );
+            attaques2[ position ] = null == syllabe.attaque ? 0 : encoder( syllabe.attaque.consonne2 );
+            semiVoyelles[ position ] = encoder( syllabe.noyau.semiVoyelle );
+            voyelles[ position ] = syllabe.noyau.voyelle.getCaracteristiques();
+            codas1[ position ] = null == syllabe.coda ? 0 : encoder( syllabe.coda.consonne1 );
+            codas2[ position ] = null == syllabe.coda ? 0 : encoder( syllabe.coda.consonne2 );
+        }
+    }
+
+
+    /**
+     * Encode une consonne.
+     *
+     * @param consonne la consonne, peut être {@code null}.
+     * @return {@code 0} si la consonne est {@code null}, sinon ses caractéristiques et le bit de présence.
+     */
+    private static int encoder( API_Consonne consonne ) {
+        return null == consonne ? 0 : CONSONNE_PRESENTE | consonne.getCaracteristiques();
+    }
+
+
+    /**
+     * Encode une semi-voyelle.
+     *
+     * @param voyelle la semi-voyelle, peut être {@code null}.
+     * @return {@code 0} si la semi-voyelle est {@code null}, sinon ses caractéristiques et le bit de présence.
+     */
+    private static int encoder( API_Voyelle voyelle ) {
+        return null == voyelle ? 0 : VOYELLE_PRESENTE | voyelle.getCaracteristiques();
+    }
+
+
+    /**
+     * Retourne le nombre de syllabes rangées.
+     *
+     * @return le nombre de syllabes.
+     */
+    public int taille() {
+        return indices.length;
+    }
+
+
+    /**
+     * Retourne l'indice d'origine d'une syllabe rangée.
+     *
+     * @param position la position de la syllabe dans les tableaux.
+     * @return son indice dans le tableau de syllabes d'origine.
+     */
+    public int getIndice( int position ) {
+        return indices[ position ];
+    }
+
+
+    /**
+     * Retourne le début de la plage des syllabes d'une forme.
+     *
+     * @param forme une forme, entre {@code 0} et {@code SyllabeFrancais.NOMBRE_FORMES - 1}.
+     * @return la position de la première syllabe de cette forme.
+     */
+    public int getDebut( int forme ) {
+        return debutsFormes[ forme ];
+    }
+
+
+    /**
+     * Retourne la fin de la plage des syllabes d'une forme.
+     *
+     * @param forme une forme, entre {@code 0} et {@code SyllabeFrancais.NOMBRE_FORMES - 1}.
+     * @return la position qui suit la dernière syllabe de cette forme.
+     */
+    public int getFin( int forme ) {
+        return debutsFormes[ forme + 1 ];
+    }
+
+
+    /**
+     * Calcule la distance entre une syllabe et chaque syllabe d'une plage du vocabulaire.  Les distances sont celles
+     * de {@code SyllabeFrancais.calculerDistanceSyllabe}.
+     *
+     * @param requete la syllabe à comparer.
+     * @param debut la position de la première syllabe de la plage.
+     * @param fin la position qui suit la dernière syllabe de la plage.
+     * @param distances reçoit la distance de chaque syllabe de la plage, à sa position.
+     */
+    public void calculerDistances( SyllabeFrancais requete, int debut, int fin, int[] distances ) {
+        int attaque1 = null == requete.attaque ? 0 : encoder( requete.attaque.consonne1 );
+        int attaque2 = null == requete.attaque ? 0 : encoder( requete.attaque.consonne2 );
+        int semiVoyelle = encoder( requete.noyau.semiVoyelle );
+        int voyelle = requete.noyau.voyelle.getCaracteristiques();
+        int coda1 = null == requete.coda ? 0 : encoder( requete.coda.consonne1 );
+        int coda2 = null == requete.coda ? 0 : encoder( requete.coda.consonne2 );
+
+        for( int k = debut; k < fin; ++k ) {
+            distances[ k ] = calculerDistanceGroupe( attaque1 ^ attaques1[ k ], attaque2 ^ attaques2[ k ] )
+                    + 2 * ( calculerDistanceSemiVoyelle( semiVoyelle ^ semiVoyelles[ k ] )
+                    + Integer.bitCount( voyelle ^ voyelles[ k ] ) )
+                    + calculerDistanceGroupe( coda1 ^ codas1[ k ], coda2 ^ codas2[ k ] );
+        }
+    }
+
+
+    /**
+     * Calcule la distance entre deux groupes de consonnes à partir des différences de leurs consonnes : 12 si un seul
+     * groupe est présent, sinon la somme des distances des consonnes.
+     *
+     * @param difference1 le ou exclusif des premières consonnes.
+     * @param difference2 le ou exclusif des deuxièmes consonnes.
+     * @return la distance entre les groupes.
+     */
+    private static int calculerDistanceGroupe( int difference1, int difference2 ) {
+        int unSeul = -( difference1 >>> 6 & 1 );
+
+        return ( 12 & unSeul ) | ( calculerDistanceConsonne( difference1 ) + calculerDistanceConsonne( difference2 ) )
+                & ~unSeul;
+    }
+
+
+    /**
+     * Calcule la distance entre deux consonnes à partir de leur différence : 6 si une seule est présente, sinon le
+     * nombre de caractéristiques différentes.
+     *
+     * @param difference le ou exclusif des deux consonnes.
+     * @return la distance entre les consonnes.
+     */
+    private static int calculerDistanceConsonne( int difference ) {
+        int uneSeule = -( difference >>> 6 & 1 );
+
+        return ( 6 & uneSeule ) | Integer.bitCount( difference & CARACTERISTIQUES_CONSONNE ) & ~uneSeule;
+    }
+
+
+    /**
+     * Calcule la distance entre deux semi-voyelles à partir de leur différence : 4 si une seule est présente, sinon
+     * le nombre de caractéristiques différentes.
+     *
+     * @param difference le ou exclusif des deux semi-voyelles.
+     * @return la distance entre les semi-voyelles.
+     */
+    private static int calculerDistanceSemiVoyelle( int difference ) {
+        int uneSeule = -( difference >>> 4 & 1 );
+
+        return ( 4 & uneSeule ) | Integer.bitCount( difference & CARACTERISTIQUES_VOYELLE ) & ~uneSeule;
+    }
+}
@@ -9,6 +9,8 @@ import java.util.regex.Pattern;
  *
  * Cette description permet de contenir une ou deux voyelles afin de décrire le son des voyelles dans une syllabe.
  * S'il y a deux voyelles, alors la première voyelle du groupe devrait être une semi-voyelle.
+ * Chaque groupe possible existe aussi sous forme canonique, obtenue par {@code obtenir}, et chaque groupe a un
+ * indice dense qui permet de lire la distance entre deux groupes dans une table calculée une seule fois.
  *
  * @see API_Consonne
  * @see SyllabeFrancais
@@ -25,6 +27,29 @@ public class VoyelleFrancais {
      */
     private static final Pattern TILDE_PATTERN = Pattern.compile( Character.toString( TILDE_CODE_POINT ) );
 
+    /**
+     * Le nombre de codes possibles pour une voyelle d'un groupe : {@code 0} pour une voyelle absente, ou l'ordinal
+     * de la {@code API_Voyelle} plus un.
+     */
+    private static final int NOMBRE_CODES = API_Voyelle.values().length + 1;
+
+    /**
+     * Le nombre de groupes sans tenir compte de la nasalité.
+     */
+    private static final int NOMBRE_GROUPES_ORAUX = NOMBRE_CODES * NOMBRE_CODES;
+
+    /**
+     * La distance entre deux groupes, indexée par {@code indice / 2 * NOMBRE_GROUPES_ORAUX + autre.indice / 2}.
+     * La nasalité n'entre pas dans la distance calculée par {@code calculerDistanceVoyelle}, la table est donc
+     * indexée sans elle.
+     */
+    private static final byte[] DISTANCES = construireDistances();
+
+    /**
+     * Les groupes canoniques, placés à leur indice.  Les cases dont la voyelle de base est absente sont vides.
+     */
+    private static final VoyelleFrancais[] GROUPES = construireGroupes();
+
     /**
      * La semi-voyelle du groupe de voyelle.
      * La valeur {@code null} est utilisé pour indiquer qu'elle n'est pas présente dans le groupe.
@@ -42,6 +67,13 @@ public class VoyelleFrancais {
      */
     protected boolean nasal = false;
 
+    /**
+     * L'indice dense du groupe : le code de la semi-voyelle multiplié par {@code NOMBRE_CODES}, plus le code de la
+     * voyelle de base, le tout multiplié par deux, plus un si le groupe est nasal.  Deux groupes égaux ont le même
+     * indice.
+     */
+    private final int indice;
+
 
     /**
      * Construit une voyelle simple.
@@ -49,7 +81,7 @@ public class VoyelleFrancais {
      * @param voyelle La voyelle de base du groupe.  Ne doit pas être {@code null}.
      */
     public VoyelleFrancais( API_Voyelle voyelle ) {
-        this.voyelle = voyelle;
+        this( null, voyelle, false );
     }
 
     /**
@@ -59,8 +91,7 @@ public class VoyelleFrancais {
      * @param nasal {@code true} si la voyelle de base est nasale.
      */
     public VoyelleFrancais( API_Voyelle voyelle, boolean nasal ) {
-        this.voyelle = voyelle;
-        this.nasal = nasal;
+        this( null, voyelle, nasal );
     }
 
     /**
@@ -70,8 +101,7 @@ public class VoyelleFrancais {
      * @param voyelle La voyelle de base du groupe.  Ne doit pas être {@code null}.
      */
     public VoyelleFrancais( API_Voyelle semiVoyelle, API_Voyelle voyelle ) {
-        this.semiVoyelle = semiVoyelle;
-        this.voyelle = voyelle;
+        this( semiVoyelle, voyelle, false );
     }
 
     /**
@@ -86,6 +116,38 @@ public class VoyelleFrancais {
         this.semiVoyelle = semiVoyelle;
         this.voyelle = voyelle;
         this.nasal = nasal;
+        this.indice = 2 * ( code( semiVoyelle ) * NOMBRE_CODES + code( voyelle ) ) + ( nasal ? 1 : 0 );
+    }
+
+
+    /**
+     * Retourne le groupe canonique contenant une voyelle simple.
+     *
+     * Le même objet est retourné à chaque appel avec les mêmes valeurs.  Un groupe canonique ne doit pas être
+     * modifié.
+     *
+     * @param voyelle La voyelle de base du groupe.  Ne doit pas être {@code null}.
+     * @param nasal {@code true} si la voyelle de base est nasale.
+     * @return le groupe canonique.
+     */
+    public static VoyelleFrancais obtenir( API_Voyelle voyelle, boolean nasal ) {
+        return obtenir( null, voyelle, nasal );
+    }
+
+
+    /**
+     * Retourne le groupe canonique contenant deux voyelles.
+     *
+     * Le même objet est retourné à chaque appel avec les mêmes valeurs.  Un groupe canonique ne doit pas être
+     * modifié.
+     *
+     * @param semiVoyelle La semi-voyelle du groupe, ou {@code null} si elle est absente.
+     * @param voyelle La voyelle de base du groupe.  Ne doit pas être {@code null}.
+     * @param nasal {@code true} si la voyelle de base est nasale.
+     * @return le groupe canonique.
+     */
+    public static VoyelleFrancais obtenir( API_Voyelle semiVoyelle, API_Voyelle voyelle, boolean nasal ) {
+        return GROUPES[ 2 * ( code( semiVoyelle ) * NOMBRE_CODES + code( voyelle ) ) + ( nasal ? 1 : 0 ) ];
     }
 
 
@@ -137,8 +199,8 @@ public class VoyelleFrancais {
         }
 
         return null == voyelle2
-                ? new VoyelleFrancais( voyelle, estNasal )
-                : new VoyelleFrancais( voyelle, voyelle2, estNasal );
+                ? obtenir( voyelle, estNasal )
+                : obtenir( voyelle, voyelle2, estNasal );
     }
 
 
@@ -168,12 +230,33 @@ public class VoyelleFrancais {
         return nasal == that.nasal && semiVoyelle == that.semiVoyelle && voyelle == that.voyelle;
     }
 
+    /**
+     * Calcule un code de hachage cohérent avec {@code equals}.
+     * @return l'indice dense du groupe.
+     */
+    @Override
+    public int hashCode() {
+        return indice;
+    }
+
     /**
      * Calcule la distance entre deux groupes de voyelles.
+     *
+     * La distance est lue dans la table {@code DISTANCES}, remplie par {@code calculerDistanceVoyelleDirecte}.
      * @param voyelle le groupe de voyelles à comparer.
      * @return la distance entre les deux groupes de voyelles.
      */
     public int calculerDistanceVoyelle (VoyelleFrancais voyelle) {
+        return DISTANCES[ indice / 2 * NOMBRE_GROUPES_ORAUX + voyelle.indice / 2 ];
+    }
+
+
+    /**
+     * Calcule la distance entre deux groupes de voyelles à partir des phonèmes, sans passer par la table.
+     * @param voyelle le groupe de voyelles à comparer.
+     * @return la distance entre les deux groupes de voyelles.
+     */
+    private int calculerDistanceVoyelleDirecte (VoyelleFrancais voyelle) {
         int distance = 0;
         if((semiVoyelle == null && voyelle.semiVoyelle !=  null) || (semiVoyelle != null && voyelle.semiVoyelle ==  null)) {
             distance = 4;
@@ -188,4 +271,71 @@ public class VoyelleFrancais {
         distance *=2;
         return distance;
     }
+
+
+    /**
+     * Retourne le code d'une voyelle dans les tables.
+     *
+     * @param voyelle la voyelle, peut être {@code null}.
+     * @return {@code 0} si la voyelle est {@code null}, sinon son ordinal plus un.
+     */
+    private static int code( API_Voyelle voyelle ) {
+        return null == voyelle ? 0 : voyelle.ordinal() + 1;
+    }
+
+
+    /**
+     * Calcule la distance entre toutes les paires de groupes non nasals.
+     *
+     * @return la table des distances.
+     */
+    private static byte[] construireDistances() {
+        API_Voyelle[] voyelles = API_Voyelle.values();
+        VoyelleFrancais[] groupes = new VoyelleFrancais[ NOMBRE_GROUPES_ORAUX ];
+        byte[] resultat = new byte[ NOMBRE_GROUPES_ORAUX * NOMBRE_GROUPES_ORAUX ];
+
+        for( int i = 0; i < NOMBRE_GROUPES_ORAUX; ++i ) {
+            int voyelle = i % NOMBRE_CODES;
+
+            if( 0 != voyelle ) {
+                groupes[ i ] = new VoyelleFrancais( 0 == i / NOMBRE_CODES ? null : voyelles[ i / NOMBRE_CODES - 1 ],
+                        voyelles[ voyelle - 1 ], false );
+            }
+        }
+        for( int i = 0; i < NOMBRE_GROUPES_ORAUX; ++i ) {
+            for( int j = 0; null != groupes[ i ] && j < NOMBRE_GROUPES_ORAUX; ++j ) {
+                if( null != groupes[ j ] ) {
+                    resultat[ i * NOMBRE_GROUPES_ORAUX + j ] =
+                            (byte) groupes[ i ].calculerDistanceVoyelleDirecte( groupes[ j ] );
+                }
+            }
+        }
+
+        return resultat;
+    }
+
+
+    /**
+     * Construit tous les groupes canoniques.
+     *
+     * @return les groupes, placés à leur indice.
+     */
+    private static VoyelleFrancais[] construireGroupes() {
+        API_Voyelle[] voyelles = API_Voyelle.values();
+        VoyelleFrancais[] resultat = new VoyelleFrancais[ 2 * NOMBRE_GROUPES_ORAUX ];
+
+        for( API_Voyelle voyelle : voyelles ) {
+            for( boolean nasal : new boolean[]{ false, true } ) {
+                VoyelleFrancais groupe = new VoyelleFrancais( null, voyelle, nasal );
+
+                resultat[ groupe.indice ] = groupe;
+                for( API_Voyelle semiVoyelle : voyelles ) {
+                    groupe = new VoyelleFrancais( semiVoyelle, voyelle, nasal );
+                    resultat[ groupe.indice ] = groupe;
+                }
+            }
+        }
+
+        return resultat;
+    }
 }